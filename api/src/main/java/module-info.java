@@ -47,6 +47,7 @@ module org.eclipse.microprofile.openapi {
     exports org.eclipse.microprofile.openapi.models.servers;
     exports org.eclipse.microprofile.openapi.models.tags;
     exports org.eclipse.microprofile.openapi.spi;
+    exports org.eclipse.microprofile.openapi.util;
 
     uses org.eclipse.microprofile.openapi.spi.OASFactoryResolver;
 
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * An OASFilter that passes each element through a list of filters, in order, within a single traversal of the model
+ * tree. The filters interested in each element type are resolved once, when the composite is created.
+ *
+ * @see OASFilter#compose(List)
+ */
+final class CompositeOASFilter implements OASFilter {
+
+    private final OASFilter[] filters;
+    private final OASFilter[][] filtersByTarget;
+    private final Set<FilterTarget> targets;
+    private final boolean threadSafe;
+
+    CompositeOASFilter(List<? extends OASFilter> filters) {
+        this.filters = filters.toArray(new OASFilter[0]);
+
+        List<Set<FilterTarget>> filterTargets = new ArrayList<>(this.filters.length);
+        boolean allThreadSafe = true;
+
+        for (OASFilter filter : this.filters) {
+            Objects.requireNonNull(filter, "filter");
+            filterTargets.add(filter.targets());
+            allThreadSafe &= filter.isThreadSafe();
+        }
+
+        FilterTarget[] allTargets = FilterTarget.values();
+        Set<FilterTarget> anyTargets = EnumSet.noneOf(FilterTarget.class);
+        List<OASFilter> matching = new ArrayList<>(this.filters.length);
+        filtersByTarget = new OASFilter[allTargets.length][];
+
+        for (FilterTarget target : allTargets) {
+            matching.clear();
+
+            for (int i = 0; i < this.filters.length; i++) {
+                if (filterTargets.get(i).contains(target)) {
+                    matching.add(this.filters[i]);
+                }
+            }
+
+            if (!matching.isEmpty()) {
+                anyTargets.add(target);
+            }
+
+            filtersByTarget[target.ordinal()] = matching.toArray(new OASFilter[0]);
+        }
+
+        this.targets = Collections.unmodifiableSet(anyTargets);
+        this.threadSafe = allThreadSafe;
+    }
+
+    private <T> T filter(FilterTarget target, T element, BiFunction<OASFilter, T, T> method) {
+        for (OASFilter filter : filtersByTarget[target.ordinal()]) {
+            element = method.apply(filter, element);
+
+            if (element == null) {
+                // Removed, the remaining filters do not see the element
+                return null;
+            }
+        }
+
+        return element;
+    }
+
+    @Override
+    public PathItem filterPathItem(PathItem pathItem) {
+        return filter(FilterTarget.PATH_ITEM, pathItem, OASFilter::filterPathItem);
+    }
+
+    @Override
+    public Operation filterOperation(Operation operation) {
+        return filter(FilterTarget.OPERATION, operation, OASFilter::filterOperation);
+    }
+
+    @Override
+    public Parameter filterParameter(Parameter parameter) {
+        return filter(FilterTarget.PARAMETER, parameter, OASFilter::filterParameter);
+    }
+
+    @Override
+    public Header filterHeader(Header header) {
+        return filter(FilterTarget.HEADER, header, OASFilter::filterHeader);
+    }
+
+    @Override
+    public RequestBody filterRequestBody(RequestBody requestBody) {
+        return filter(FilterTarget.REQUEST_BODY, requestBody, OASFilter::filterRequestBody);
+    }
+
+    @Override
+    public APIResponse filterAPIResponse(APIResponse apiResponse) {
+        return filter(FilterTarget.API_RESPONSE, apiResponse, OASFilter::filterAPIResponse);
+    }
+
+    @Override
+    public Schema filterSchema(Schema schema) {
+        return filter(FilterTarget.SCHEMA, schema, OASFilter::filterSchema);
+    }
+
+    @Override
+    public SecurityScheme filterSecurityScheme(SecurityScheme securityScheme) {
+        return filter(FilterTarget.SECURITY_SCHEME, securityScheme, OASFilter::filterSecurityScheme);
+    }
+
+    @Override
+    public Server filterServer(Server server) {
+        return filter(FilterTarget.SERVER, server, OASFilter::filterServer);
+    }
+
+    @Override
+    public Tag filterTag(Tag tag) {
+        return filter(FilterTarget.TAG, tag, OASFilter::filterTag);
+    }
+
+    @Override
+    public Link filterLink(Link link) {
+        return filter(FilterTarget.LINK, link, OASFilter::filterLink);
+    }
+
+    @Override
+    public Callback filterCallback(Callback callback) {
+        return filter(FilterTarget.CALLBACK, callback, OASFilter::filterCallback);
+    }
+
+    @Override
+    public void filterOpenAPI(OpenAPI openAPI) {
+        for (OASFilter filter : filters) {
+            filter.filterOpenAPI(openAPI);
+        }
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
+    @Override
+    public Set<FilterTarget> targets() {
+        return targets;
+    }
+}
@@ -31,12 +31,38 @@ public final class OASConfig {
     public static final String MODEL_READER = "mp.openapi.model.reader";
 
     /**
-     * Configuration property to specify the fully qualified name of the OASFilter implementation.
+     * Configuration property to specify the fully qualified name of the OASFilter implementation, or a comma-separated
+     * list of names of OASFilter implementations to be applied in order.
      *
      * @see org.eclipse.microprofile.openapi.OASFilter
      */
     public static final String FILTER = "mp.openapi.filter";
 
+    /**
+     * Configuration property to enable loading a pre-built OpenAPI document from
+     * <code>META-INF/openapi/openapi.json</code>. When enabled and the document is present, it is served as the fully
+     * processed document, and the model reader, static files, annotation scanning and filter are not processed.
+     *
+     * @since 4.2
+     */
+    public static final String MODEL_PREBUILT = "mp.openapi.model.prebuilt";
+
+    /**
+     * Configuration property to enable deferring the construction of the OpenAPI model until it is first accessed,
+     * rather than when the application is deployed.
+     *
+     * @since 4.2
+     */
+    public static final String MODEL_LAZY = "mp.openapi.model.lazy";
+
+    /**
+     * Configuration property to enable building the OpenAPI model incrementally when individual classes of a deployed
+     * application change, rather than processing the whole application again.
+     *
+     * @since 4.2
+     */
+    public static final String MODEL_INCREMENTAL = "mp.openapi.model.incremental";
+
     /**
      * Configuration property to disable annotation scanning.
      *
@@ -72,6 +98,14 @@ public final class OASConfig {
      */
     public static final String SCAN_BEANVALIDATION = "mp.openapi.scan.beanvalidation";
 
+    /**
+     * Configuration property to enable processing the annotations of different classes concurrently. The processed
+     * document is identical to the document produced when the classes are processed sequentially.
+     *
+     * @since 4.2
+     */
+    public static final String SCAN_PARALLEL = "mp.openapi.scan.parallel";
+
     /**
      * Configuration property to specify the list of global servers that provide connectivity information.
      *
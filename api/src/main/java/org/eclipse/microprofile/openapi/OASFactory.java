@@ -16,6 +16,8 @@
 
 package org.eclipse.microprofile.openapi;
 
+import java.util.Objects;
+
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
@@ -78,6 +80,12 @@ public final class OASFactory {
      * <code>OASFactory.createObject(Info.class).title("Airlines").description("Airlines APIs").version("1.0.0");
      * </code>
      * </pre>
+     * <p>
+     * Each call looks up the resolver for the thread context class loader, as described by
+     * {@link OASFactoryResolver#instance()}, and then the supplier cached by that resolver for the class, as returned by
+     * {@link OASFactoryResolver#supplierFor(Class)}. Neither lookup scans the class path once the first element of the
+     * class has been created, but neither is a single field read. Code constructing many elements of the same class
+     * may obtain the supplier once and reuse it instead.
      *
      * @param <T>
      *            describes the type parameter
@@ -93,7 +101,56 @@ public final class OASFactory {
      *             if an instance could not be created, most likely, due to an illegal or inappropriate class
      */
     public static <T extends Constructible> T createObject(Class<T> clazz) {
-        return OASFactoryResolver.instance().createObject(clazz);
+        return OASFactoryResolver.instance().supplierFor(clazz).get();
+    }
+
+    /**
+     * This method creates a deeply immutable copy of an element from the OpenAPI model tree, for example a complete
+     * {@link org.eclipse.microprofile.openapi.models.OpenAPI} document once it has been filtered.
+     *
+     * <br>
+     * <br>
+     * The returned copy and every model element reachable from it are frozen:
+     * <ul>
+     * <li>all methods that modify a frozen element throw {@link UnsupportedOperationException}</li>
+     * <li>all maps and lists returned by a frozen element are unmodifiable</li>
+     * <li>later changes to the original model element are not reflected by the copy</li>
+     * <li>a frozen element may be read concurrently by multiple threads without synchronization</li>
+     * <li>model elements reachable from the given element which are already frozen are not copied, the copy refers to
+     * the same instances</li>
+     * </ul>
+     * Extension values and schema properties that are not model elements are copied by reference. Freezing an element
+     * that is already frozen returns the same element.
+     *
+     * @param <T>
+     *            describes the type parameter
+     * @param model
+     *            the model element to freeze
+     *
+     * @return an immutable copy of the model element, or the model element itself if it is already frozen
+     *
+     * @throws NullPointerException
+     *             if the specified model element is null
+     * @since 4.2
+     */
+    public static <T extends Constructible> T freeze(T model) {
+        Objects.requireNonNull(model, "model");
+        OASFactoryResolver resolver = OASFactoryResolver.instance();
+        return resolver.isFrozen(model) ? model : resolver.freeze(model);
+    }
+
+    /**
+     * This method checks whether an element from the OpenAPI model tree is immutable.
+     *
+     * @param model
+     *            the model element to check
+     *
+     * @return true if the model element was created by {@link #freeze(Constructible)}, otherwise false
+     *
+     * @since 4.2
+     */
+    public static boolean isFrozen(Constructible model) {
+        return model != null && OASFactoryResolver.instance().isFrozen(model);
     }
 
     /**
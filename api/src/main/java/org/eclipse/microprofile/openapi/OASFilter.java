@@ -15,6 +15,11 @@
  */
 package org.eclipse.microprofile.openapi;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.PathItem;
@@ -38,11 +43,70 @@ import org.eclipse.microprofile.openapi.models.tags.Tag;
  * The registration of this filter is controlled by setting the key <b>mp.openapi.filter</b> using one of the
  * configuration sources specified in <a href="https://github.com/eclipse/microprofile-config">MicroProfile Config</a>.
  * The value is the fully qualified name of the filter implementation, which needs to be visible to the application's
- * classloader.
+ * classloader. A comma-separated list of names registers several filters, which are applied in the listed order as if
+ * combined using {@link #compose(List)}.
  *
  */
 public interface OASFilter {
 
+    /**
+     * The types of model elements that may be filtered, each corresponding to one of the filter methods of
+     * {@link OASFilter}.
+     *
+     * @see OASFilter#targets()
+     * @since 4.2
+     */
+    enum FilterTarget {
+        /**
+         * {@link OASFilter#filterPathItem(PathItem)}
+         */
+        PATH_ITEM,
+        /**
+         * {@link OASFilter#filterOperation(Operation)}
+         */
+        OPERATION,
+        /**
+         * {@link OASFilter#filterParameter(Parameter)}
+         */
+        PARAMETER,
+        /**
+         * {@link OASFilter#filterHeader(Header)}
+         */
+        HEADER,
+        /**
+         * {@link OASFilter#filterRequestBody(RequestBody)}
+         */
+        REQUEST_BODY,
+        /**
+         * {@link OASFilter#filterAPIResponse(APIResponse)}
+         */
+        API_RESPONSE,
+        /**
+         * {@link OASFilter#filterSchema(Schema)}
+         */
+        SCHEMA,
+        /**
+         * {@link OASFilter#filterSecurityScheme(SecurityScheme)}
+         */
+        SECURITY_SCHEME,
+        /**
+         * {@link OASFilter#filterServer(Server)}
+         */
+        SERVER,
+        /**
+         * {@link OASFilter#filterTag(Tag)}
+         */
+        TAG,
+        /**
+         * {@link OASFilter#filterLink(Link)}
+         */
+        LINK,
+        /**
+         * {@link OASFilter#filterCallback(Callback)}
+         */
+        CALLBACK
+    }
+
     /**
      * Allows filtering of a particular PathItem. Implementers of this method can choose to update the given PathItem,
      * pass it back as-is, or return null if removing this PathItem.
@@ -198,4 +262,64 @@ public interface OASFilter {
      */
     default void filterOpenAPI(OpenAPI openAPI) {
     }
+
+    /**
+     * Declares whether this filter may be invoked concurrently. When this method returns true, the vendor framework is
+     * permitted to filter independent parts of the model tree in parallel, for example each PathItem of the Paths
+     * element and each entry of the Components element. A thread-safe filter must not depend on the order in which
+     * independent elements are filtered and must synchronize access to any state that it shares between invocations.
+     * <p>
+     * The ordering guarantees of the filter methods are not affected: all filterable descendants of an element are
+     * filtered before the element itself, and {@link #filterOpenAPI(OpenAPI)} is called only once all other elements
+     * have been filtered. The filtered model must be the same as if the filter had been applied sequentially, including
+     * the order of the entries of any maps and lists.
+     * <p>
+     * The default implementation returns false, which requires the vendor framework to invoke this filter from a
+     * single thread at a time.
+     *
+     * @return true if this filter may be invoked concurrently, otherwise false
+     * @since 4.2
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
+    /**
+     * Declares the types of model elements that this filter is interested in. The vendor framework must not invoke the
+     * filter method of any element type missing from the returned set, and may skip traversing parts of the model tree
+     * that contain no elements of the types in the set, for example the schemas of the Components element when
+     * {@link FilterTarget#SCHEMA} is absent. {@link #filterOpenAPI(OpenAPI)} is always called.
+     * <p>
+     * The returned set is read once, before the model is filtered. The default implementation returns all element
+     * types.
+     *
+     * @return the types of model elements to be filtered
+     * @since 4.2
+     */
+    default Set<FilterTarget> targets() {
+        return EnumSet.allOf(FilterTarget.class);
+    }
+
+    /**
+     * Creates a filter that applies each of the given filters, in order, within a single traversal of the model tree.
+     * <p>
+     * Each element is passed to the matching method of every filter that targets the element's type, in list order,
+     * with each filter receiving the element returned by the previous one. If a filter returns null, the element is
+     * removed and the remaining filters are not called for it. {@link #filterOpenAPI(OpenAPI)} is called on every
+     * filter, in list order. The composite filter targets the union of the filters' targets and is thread-safe only if
+     * every filter is thread-safe. The targets and thread-safety of each filter are read once, by this method.
+     *
+     * @param filters
+     *            the filters to apply, in order
+     * @return a filter that applies all of the given filters
+     * @throws NullPointerException
+     *             if the list or any of its elements is null
+     * @since 4.2
+     */
+    static OASFilter compose(List<? extends OASFilter> filters) {
+        if (filters.size() == 1) {
+            return Objects.requireNonNull(filters.get(0), "filter");
+        }
+        return new CompositeOASFilter(filters);
+    }
 }
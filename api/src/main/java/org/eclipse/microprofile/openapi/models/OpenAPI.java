@@ -17,9 +17,11 @@
 
 package org.eclipse.microprofile.openapi.models;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.models.info.Info;
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.models.servers.Server;
@@ -384,4 +386,86 @@ public interface OpenAPI extends Constructible, Extensible<OpenAPI> {
         return this;
     }
 
+    /**
+     * Returns a deeply immutable snapshot of this OpenAPI document. This is a convenience method for
+     * <code>OASFactory.freeze(this)</code>.
+     * <p>
+     * The snapshot is not affected by later changes to this document, and may be read concurrently by multiple threads
+     * without synchronization. All methods that modify the snapshot, or any model element reachable from it, throw
+     * {@link UnsupportedOperationException}. Calling this method on a snapshot returns the snapshot itself.
+     *
+     * @return an immutable snapshot of this OpenAPI document
+     * @see org.eclipse.microprofile.openapi.OASFactory#freeze(Constructible)
+     * @since 4.2
+     */
+    default OpenAPI snapshot() {
+        return OASFactory.freeze(this);
+    }
+
+    /**
+     * Returns the operation of the paths or webhooks of this OpenAPI document with the given operationId.
+     * <p>
+     * The default implementation searches all the operations of the document. Implementations may override this
+     * method to use an index maintained as path items, webhooks and operations are added and removed.
+     *
+     * @param operationId
+     *            the operationId of an operation
+     * @return the operation with the given operationId, or null if there is none
+     * @see org.eclipse.microprofile.openapi.util.OperationIndex
+     * @since 4.2
+     */
+    default Operation findOperation(String operationId) {
+        for (Operation operation : operations(this)) {
+            if (operationId.equals(operation.getOperationId())) {
+                return operation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the operations of the paths and webhooks of this OpenAPI document with the given tag.
+     * <p>
+     * The default implementation searches all the operations of the document. Implementations may override this
+     * method to use an index maintained as path items, webhooks, operations and their tags are added and removed.
+     *
+     * @param tag
+     *            the name of a tag
+     * @return a list of the operations with the given tag, which is empty if there are none
+     * @see org.eclipse.microprofile.openapi.util.OperationIndex
+     * @since 4.2
+     */
+    default List<Operation> getOperationsByTag(String tag) {
+        List<Operation> result = new ArrayList<>();
+        for (Operation operation : operations(this)) {
+            List<String> tags = operation.getTags();
+            if (tags != null && tags.contains(tag)) {
+                result.add(operation);
+            }
+        }
+        return result;
+    }
+
+    private static List<Operation> operations(OpenAPI openAPI) {
+        List<Operation> operations = new ArrayList<>();
+        Paths paths = openAPI.getPaths();
+        if (paths != null) {
+            addOperations(operations, paths.getPathItems());
+        }
+        addOperations(operations, openAPI.getWebhooks());
+        return operations;
+    }
+
+    private static void addOperations(List<Operation> operations, Map<String, PathItem> pathItems) {
+        if (pathItems == null) {
+            return;
+        }
+        for (PathItem pathItem : pathItems.values()) {
+            Map<PathItem.HttpMethod, Operation> pathOperations = pathItem == null ? null : pathItem.getOperations();
+            if (pathOperations != null) {
+                operations.addAll(pathOperations.values());
+            }
+        }
+    }
+
 }
\ No newline at end of file
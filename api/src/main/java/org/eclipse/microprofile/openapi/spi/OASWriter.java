@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.spi;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * This class is not intended to be used by end-users. It should be used by vendors to provide their implementation of
+ * an OpenAPI document writer.
+ *
+ * <br>
+ * <br>
+ * Serializes an OpenAPI model tree as a JSON or YAML document. Implementations are expected to stream the document,
+ * emitting each element of the model as it is visited during a single traversal of the tree, rather than first
+ * converting the model into an intermediate representation such as a map or a generic JSON tree. The document written
+ * for a model must be equivalent to the document served by the OpenAPI endpoint for the same model.
+ *
+ * <br>
+ * <br>
+ * The writer is provided by the {@link OASFactoryResolver} implementation, see {@link OASFactoryResolver#getWriter()}.
+ *
+ * @since 4.2
+ */
+public abstract class OASWriter {
+
+    /**
+     * The formats of an OpenAPI document.
+     */
+    public enum Format {
+        JSON("application/json"),
+        YAML("application/yaml");
+
+        private final String mediaType;
+
+        Format(String mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        /**
+         * Returns the media type of documents in this format.
+         *
+         * @return the media type
+         */
+        public String getMediaType() {
+            return mediaType;
+        }
+    }
+
+    /**
+     * Returns the writer of the current OASFactoryResolver. This is a convenience method for
+     * <code>OASFactoryResolver.instance().getWriter()</code>.
+     *
+     * @return the writer
+     *
+     * @throws UnsupportedOperationException
+     *             if the OASFactoryResolver implementation does not provide a writer
+     */
+    public static OASWriter instance() {
+        return OASFactoryResolver.instance().getWriter();
+    }
+
+    /**
+     * Writes the OpenAPI model tree to the output stream as a document in the given format, encoded in UTF-8. The
+     * stream is flushed, but not closed. Implementations are responsible for any buffering of the output.
+     *
+     * @param model
+     *            the OpenAPI model tree to write
+     * @param format
+     *            the format of the document
+     * @param out
+     *            the stream to which the document is written
+     *
+     * @throws NullPointerException
+     *             if any of the arguments is null
+     * @throws IOException
+     *             if the document could not be written to the stream
+     */
+    public abstract void write(OpenAPI model, Format format, OutputStream out) throws IOException;
+
+    /**
+     * Writes the OpenAPI model tree to the channel as a document in the given format, encoded in UTF-8. The channel is
+     * not closed.
+     * <p>
+     * The default implementation buffers the output and delegates to
+     * {@link #write(OpenAPI, Format, OutputStream)}.
+     *
+     * @param model
+     *            the OpenAPI model tree to write
+     * @param format
+     *            the format of the document
+     * @param channel
+     *            the channel to which the document is written
+     *
+     * @throws NullPointerException
+     *             if any of the arguments is null
+     * @throws IOException
+     *             if the document could not be written to the channel
+     */
+    public void write(OpenAPI model, Format format, WritableByteChannel channel) throws IOException {
+        OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+        write(model, format, out);
+        out.flush();
+    }
+}
@@ -15,6 +15,6 @@
  * Service provider interface which allows vendors to set their implementations of OASFactoryResolver.
  */
 
-@org.osgi.annotation.versioning.Version("1.0")
+@org.osgi.annotation.versioning.Version("1.1")
 @org.osgi.annotation.versioning.ProviderType
 package org.eclipse.microprofile.openapi.spi;
\ No newline at end of file
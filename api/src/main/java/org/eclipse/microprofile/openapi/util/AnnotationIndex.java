@@ -0,0 +1,441 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An index of the classes of an application which are annotated with OpenAPI or Jakarta REST annotations, stored in
+ * the application module as {@value #LOCATION} so that vendors can find the classes to process without loading every
+ * class of the application.
+ * <p>
+ * The index lists, for each indexed class, the annotations declared on the class, its fields, its methods and
+ * constructors and their parameters, whose type is in the {@code org.eclipse.microprofile.openapi.annotations} or
+ * {@code jakarta.ws.rs} package or one of their subpackages. Annotations are listed as they are declared in the class
+ * file, so a repeated annotation is listed as its container annotation. Each class is listed with the annotations it
+ * declares itself, annotations inherited from superclasses and interfaces are listed with the class declaring them.
+ * <p>
+ * The index is a UTF-8 text file. Its first line is {@value #HEADER}. Each class is a line holding the binary name of
+ * the class, followed by one line for each of its annotations, which starts with a tab character and contains the
+ * following fields, separated by a single space:
+ * <ol>
+ * <li>the kind of the annotated element: {@code TYPE}, {@code FIELD}, {@code METHOD} or {@code PARAMETER}</li>
+ * <li>the binary name of the annotation type</li>
+ * <li>for a field, the name of the field; for a method, constructor or parameter, the name of the method followed by
+ * its descriptor as defined by the Java Virtual Machine Specification, for example
+ * {@code getPet(Ljava/lang/String;)Ljakarta/ws/rs/core/Response;}, where the name of a constructor is
+ * {@code <init>}</li>
+ * <li>for a parameter, the zero-based index of the parameter</li>
+ * </ol>
+ * Empty lines and lines starting with {@code #}, other than the first, are ignored.
+ * <p>
+ * Instances of this class are immutable and safe for use by multiple concurrent threads.
+ *
+ * @since 4.2
+ */
+public final class AnnotationIndex {
+
+    /**
+     * The location of the index in the application module.
+     */
+    public static final String LOCATION = "META-INF/openapi.idx";
+
+    /**
+     * The first line of an index in the format described by this class.
+     */
+    public static final String HEADER = "#openapi-index 1";
+
+    private static final String[] INDEXED_PACKAGES = {"org.eclipse.microprofile.openapi.annotations", "jakarta.ws.rs"};
+
+    private final Map<String, List<Entry>> entries;
+
+    private AnnotationIndex(Map<String, List<Entry>> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Creates an index of the given classes by reading their annotations with reflection. Classes without indexed
+     * annotations are not part of the index.
+     *
+     * @param classes
+     *            the classes to index
+     * @return the index
+     */
+    public static AnnotationIndex of(Collection<Class<?>> classes) {
+        Map<String, List<Entry>> entries = new LinkedHashMap<>();
+        for (Class<?> clazz : classes) {
+            List<Entry> classEntries = new ArrayList<>();
+            String className = clazz.getName();
+            addEntries(classEntries, className, Kind.TYPE, null, -1, clazz);
+            for (Field field : clazz.getDeclaredFields()) {
+                addEntries(classEntries, className, Kind.FIELD, field.getName(), -1, field);
+            }
+            for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+                addEntries(classEntries, className, constructor);
+            }
+            for (Method method : clazz.getDeclaredMethods()) {
+                // Bridge methods repeat the annotations of the method they delegate to
+                if (!method.isBridge() && !method.isSynthetic()) {
+                    addEntries(classEntries, className, method);
+                }
+            }
+            if (!classEntries.isEmpty()) {
+                entries.put(className, Collections.unmodifiableList(classEntries));
+            }
+        }
+        return new AnnotationIndex(entries);
+    }
+
+    /**
+     * Reads an index in the format described by this class. The stream is not closed.
+     *
+     * @param in
+     *            the stream to read
+     * @return the index
+     * @throws IOException
+     *             if the stream cannot be read or does not contain an index in the format described by this class
+     */
+    public static AnnotationIndex read(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        if (!HEADER.equals(line)) {
+            throw new IOException("Not an OpenAPI annotation index, expected header " + HEADER);
+        }
+        Map<String, List<Entry>> entries = new LinkedHashMap<>();
+        String className = null;
+        List<Entry> classEntries = null;
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+            if (line.charAt(0) != '\t') {
+                className = line.trim();
+                classEntries = entries.computeIfAbsent(className, k -> new ArrayList<>());
+                continue;
+            }
+            if (className == null) {
+                throw new IOException("Line " + lineNumber + ": annotation listed before any class");
+            }
+            classEntries.add(parseEntry(className, line.substring(1), lineNumber));
+        }
+        entries.replaceAll((k, v) -> Collections.unmodifiableList(v));
+        return new AnnotationIndex(entries);
+    }
+
+    private static Entry parseEntry(String className, String line, int lineNumber) throws IOException {
+        String[] fields = line.split(" ");
+        Kind kind;
+        try {
+            kind = Kind.valueOf(fields[0]);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Line " + lineNumber + ": unknown element kind " + fields[0]);
+        }
+        int expected = kind == Kind.TYPE ? 2 : kind == Kind.PARAMETER ? 4 : 3;
+        if (fields.length != expected) {
+            throw new IOException("Line " + lineNumber + ": expected " + expected + " fields for " + kind);
+        }
+        int parameter = -1;
+        if (kind == Kind.PARAMETER) {
+            try {
+                parameter = Integer.parseInt(fields[3]);
+            } catch (NumberFormatException e) {
+                throw new IOException("Line " + lineNumber + ": invalid parameter index " + fields[3]);
+            }
+        }
+        return new Entry(className, kind, fields[1], kind == Kind.TYPE ? null : fields[2], parameter);
+    }
+
+    /**
+     * Writes this index in the format described by this class. The stream is flushed but not closed.
+     *
+     * @param out
+     *            the stream to write to
+     * @throws IOException
+     *             if the index cannot be written
+     */
+    public void write(OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write(HEADER);
+        writer.write('\n');
+        for (Map.Entry<String, List<Entry>> classEntries : entries.entrySet()) {
+            writer.write(classEntries.getKey());
+            writer.write('\n');
+            for (Entry entry : classEntries.getValue()) {
+                writer.write('\t');
+                writer.write(entry.kind.name());
+                writer.write(' ');
+                writer.write(entry.annotationName);
+                if (entry.member != null) {
+                    writer.write(' ');
+                    writer.write(entry.member);
+                }
+                if (entry.parameter >= 0) {
+                    writer.write(' ');
+                    writer.write(Integer.toString(entry.parameter));
+                }
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Returns the names of the indexed classes.
+     *
+     * @return the binary names of the classes, in the order of the index
+     */
+    public Set<String> getClassNames() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Returns the names of the indexed classes declaring the given annotation on the class or one of its members.
+     *
+     * @param annotationName
+     *            the binary name of an annotation type
+     * @return the binary names of the classes, in the order of the index
+     */
+    public Set<String> getClassNames(String annotationName) {
+        Set<String> result = new LinkedHashSet<>();
+        for (Map.Entry<String, List<Entry>> classEntries : entries.entrySet()) {
+            for (Entry entry : classEntries.getValue()) {
+                if (entry.annotationName.equals(annotationName)) {
+                    result.add(classEntries.getKey());
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the indexed annotations of the given class.
+     *
+     * @param className
+     *            the binary name of a class
+     * @return the annotations, which is empty if the class is not indexed
+     */
+    public List<Entry> getEntries(String className) {
+        return entries.getOrDefault(className, Collections.emptyList());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof AnnotationIndex && entries.equals(((AnnotationIndex) obj).entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return entries.hashCode();
+    }
+
+    private static void addEntries(List<Entry> classEntries, String className, Executable executable) {
+        String member = (executable instanceof Constructor ? "<init>" : executable.getName())
+                + descriptor(executable);
+        addEntries(classEntries, className, Kind.METHOD, member, -1, executable);
+        Annotation[][] parameterAnnotations = executable.getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                addEntry(classEntries, className, Kind.PARAMETER, member, i, annotation);
+            }
+        }
+    }
+
+    private static void addEntries(List<Entry> classEntries, String className, Kind kind, String member,
+            int parameter, AnnotatedElement element) {
+        for (Annotation annotation : element.getDeclaredAnnotations()) {
+            addEntry(classEntries, className, kind, member, parameter, annotation);
+        }
+    }
+
+    private static void addEntry(List<Entry> classEntries, String className, Kind kind, String member, int parameter,
+            Annotation annotation) {
+        String annotationName = annotation.annotationType().getName();
+        for (String indexedPackage : INDEXED_PACKAGES) {
+            if (annotationName.length() > indexedPackage.length() && annotationName.startsWith(indexedPackage)
+                    && annotationName.charAt(indexedPackage.length()) == '.') {
+                classEntries.add(new Entry(className, kind, annotationName, member, parameter));
+                return;
+            }
+        }
+    }
+
+    private static String descriptor(Executable executable) {
+        StringBuilder descriptor = new StringBuilder("(");
+        for (Class<?> type : executable.getParameterTypes()) {
+            descriptor(descriptor, type);
+        }
+        descriptor.append(')');
+        descriptor(descriptor, executable instanceof Method ? ((Method) executable).getReturnType() : void.class);
+        return descriptor.toString();
+    }
+
+    private static void descriptor(StringBuilder descriptor, Class<?> type) {
+        while (type.isArray()) {
+            descriptor.append('[');
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            char c;
+            if (type == void.class) {
+                c = 'V';
+            } else if (type == boolean.class) {
+                c = 'Z';
+            } else if (type == long.class) {
+                c = 'J';
+            } else {
+                c = Character.toUpperCase(type.getName().charAt(0));
+            }
+            descriptor.append(c);
+        } else {
+            descriptor.append('L').append(type.getName().replace('.', '/')).append(';');
+        }
+    }
+
+    /**
+     * The kinds of annotated elements.
+     */
+    public enum Kind {
+        /**
+         * A class, interface, enumeration or annotation type.
+         */
+        TYPE,
+        /**
+         * A field.
+         */
+        FIELD,
+        /**
+         * A method or constructor.
+         */
+        METHOD,
+        /**
+         * A parameter of a method or constructor.
+         */
+        PARAMETER
+    }
+
+    /**
+     * An annotation declared on a class or one of its members.
+     */
+    public static final class Entry {
+
+        private final String className;
+        private final Kind kind;
+        private final String annotationName;
+        private final String member;
+        private final int parameter;
+
+        Entry(String className, Kind kind, String annotationName, String member, int parameter) {
+            this.className = className;
+            this.kind = kind;
+            this.annotationName = annotationName;
+            this.member = member;
+            this.parameter = parameter;
+        }
+
+        /**
+         * Returns the binary name of the class declaring the annotated element.
+         *
+         * @return the class name
+         */
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * Returns the kind of the annotated element.
+         *
+         * @return the kind
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the binary name of the annotation type.
+         *
+         * @return the annotation type name
+         */
+        public String getAnnotationName() {
+            return annotationName;
+        }
+
+        /**
+         * Returns the annotated member: the name of a field, or the name and descriptor of a method or of the method
+         * declaring a parameter.
+         *
+         * @return the member, or null for an annotation on a type
+         */
+        public String getMember() {
+            return member;
+        }
+
+        /**
+         * Returns the index of the annotated parameter.
+         *
+         * @return the zero-based parameter index, or -1 if the annotated element is not a parameter
+         */
+        public int getParameterIndex() {
+            return parameter;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry other = (Entry) obj;
+            return className.equals(other.className) && kind == other.kind
+                    && annotationName.equals(other.annotationName) && Objects.equals(member, other.member)
+                    && parameter == other.parameter;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(className, kind, annotationName, member, parameter);
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + annotationName + (member == null ? "" : " " + member)
+                    + (parameter < 0 ? "" : " " + parameter) + " in " + className;
+        }
+    }
+}
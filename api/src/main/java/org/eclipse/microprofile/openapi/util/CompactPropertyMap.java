@@ -0,0 +1,303 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A memory-compact, insertion-ordered map of property names to values, suitable as the storage of model
+ * implementations whose instances usually set few of their many possible properties, such as
+ * {@link org.eclipse.microprofile.openapi.models.media.Schema Schema}.
+ * <p>
+ * The entries are stored as alternating keys and values in a single array, sized to the number of entries rather than
+ * to the number of possible properties. Keys that are the names of standard schema properties are replaced by a
+ * shared instance of the name, so that lookups usually succeed on the first identity comparison and the names are
+ * stored once. Lookups scan the array, which for the small number of properties of a typical model element is faster
+ * than hashing.
+ * <p>
+ * The map permits null values but not null keys. Like {@link java.util.HashMap}, it is not safe for use by multiple
+ * concurrent threads without external synchronization, and its iterators are fail-fast.
+ *
+ * @since 4.2
+ */
+public final class CompactPropertyMap extends AbstractMap<String, Object> {
+
+    private static final Object[] EMPTY = new Object[0];
+    private static final Map<String, String> NAMES = new HashMap<>();
+
+    static {
+        String[] names = {
+                "$ref", "$schema", "$id", "$anchor", "$dynamicRef", "$dynamicAnchor", "$defs", "$comment",
+                "$vocabulary", "type", "format", "title", "description", "default", "enum", "const", "examples",
+                "example", "multipleOf", "maximum", "exclusiveMaximum", "minimum", "exclusiveMinimum", "maxLength",
+                "minLength", "pattern", "maxItems", "minItems", "uniqueItems", "maxContains", "minContains",
+                "maxProperties", "minProperties", "required", "dependentRequired", "allOf", "anyOf", "oneOf", "not",
+                "if", "then", "else", "dependentSchemas", "prefixItems", "items", "contains", "properties",
+                "patternProperties", "additionalProperties", "propertyNames", "unevaluatedItems",
+                "unevaluatedProperties", "contentEncoding", "contentMediaType", "contentSchema", "deprecated",
+                "readOnly", "writeOnly", "discriminator", "xml", "externalDocs"
+        };
+        for (String name : names) {
+            NAMES.put(name, name);
+        }
+    }
+
+    private Object[] table = EMPTY;
+    private int size;
+    private int modCount;
+    private Set<Map.Entry<String, Object>> entrySet;
+
+    /**
+     * Creates an empty map.
+     */
+    public CompactPropertyMap() {
+    }
+
+    /**
+     * Creates a map with the entries of the given map, in its iteration order.
+     *
+     * @param map
+     *            the map to copy
+     */
+    public CompactPropertyMap(Map<String, ?> map) {
+        table = new Object[map.size() * 2];
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private int indexOf(Object key) {
+        Object[] tab = table;
+        int end = size * 2;
+        for (int i = 0; i < end; i += 2) {
+            if (tab[i] == key) {
+                return i;
+            }
+        }
+        if (key instanceof String) {
+            for (int i = 0; i < end; i += 2) {
+                if (key.equals(tab[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = indexOf(key);
+        return i < 0 ? null : table[i + 1];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (key == null) {
+            throw new NullPointerException("key");
+        }
+        int i = indexOf(key);
+        if (i >= 0) {
+            Object previous = table[i + 1];
+            table[i + 1] = value;
+            return previous;
+        }
+        int end = size * 2;
+        if (end == table.length) {
+            // Grow slowly, as model elements rarely have many properties
+            table = Arrays.copyOf(table, end + 2 * Math.max(2, size / 2));
+        }
+        String name = NAMES.get(key);
+        table[end] = name != null ? name : key;
+        table[end + 1] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        Object previous = table[i + 1];
+        removeAt(i);
+        return previous;
+    }
+
+    private void removeAt(int i) {
+        int end = size * 2;
+        System.arraycopy(table, i + 2, table, i, end - i - 2);
+        table[end - 2] = null;
+        table[end - 1] = null;
+        size--;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        table = EMPTY;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Reduces the storage of this map to the number of its entries, for example once a model element is fully built.
+     */
+    public void trimToSize() {
+        if (table.length > size * 2) {
+            table = size == 0 ? EMPTY : Arrays.copyOf(table, size * 2);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        Set<Map.Entry<String, Object>> result = entrySet;
+        if (result == null) {
+            result = new EntrySet();
+            entrySet = result;
+        }
+        return result;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactPropertyMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new Iterator<Map.Entry<String, Object>>() {
+                private int next;
+                private int last = -1;
+                private int expectedModCount = modCount;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size * 2;
+                }
+
+                @Override
+                public Map.Entry<String, Object> next() {
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (next >= size * 2) {
+                        throw new NoSuchElementException();
+                    }
+                    last = next;
+                    next += 2;
+                    return new Entry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    removeAt(last);
+                    next = last;
+                    last = -1;
+                    expectedModCount = modCount;
+                }
+            };
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+
+        private final int index;
+        private final int expectedModCount = modCount;
+
+        Entry(int index) {
+            this.index = index;
+        }
+
+        private void check() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public String getKey() {
+            check();
+            return (String) table[index];
+        }
+
+        @Override
+        public Object getValue() {
+            check();
+            return table[index + 1];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            check();
+            Object previous = table[index + 1];
+            table[index + 1] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            return getKey().equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
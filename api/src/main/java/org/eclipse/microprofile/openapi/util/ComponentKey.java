@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Identifies a single entry of the Components element of an OpenAPI document, such as the schema named {@code Pet}.
+ * <p>
+ * A key can be obtained from a reference with {@link #parse(String)}, which decodes the percent-encoding and the JSON
+ * Pointer escapes ({@code ~0} and {@code ~1}) of the reference. Two keys are equal when they have the same type and
+ * name, regardless of how the references they were parsed from are spelled.
+ *
+ * @since 4.2
+ */
+public final class ComponentKey {
+
+    private static final String PREFIX = "#/components/";
+
+    private final ComponentType type;
+    private final String name;
+    private final int hash;
+    private String ref;
+
+    private ComponentKey(ComponentType type, String name) {
+        this.type = type;
+        this.name = name;
+        this.hash = 31 * type.hashCode() + name.hashCode();
+    }
+
+    /**
+     * Creates the key of the component with the given type and name.
+     *
+     * @param type
+     *            the type of the component
+     * @param name
+     *            the name of the component, as used in the Components element
+     * @return the key
+     */
+    public static ComponentKey of(ComponentType type, String name) {
+        return new ComponentKey(Objects.requireNonNull(type, "type"), Objects.requireNonNull(name, "name"));
+    }
+
+    /**
+     * Parses a reference to an entry of the Components element.
+     * <p>
+     * Only references of the form {@code #/components/<type>/<name>} are recognised. References to other documents, to
+     * locations other than the Components element, or to a location nested inside a component return null.
+     *
+     * @param ref
+     *            the reference, for example {@code #/components/schemas/Pet}
+     * @return the key identified by the reference, or null if the reference does not identify an entry of the
+     *         Components element
+     */
+    public static ComponentKey parse(String ref) {
+        if (ref != null && ref.indexOf('%') >= 0) {
+            ref = percentDecode(ref);
+        }
+        if (ref == null || !ref.startsWith(PREFIX)) {
+            return null;
+        }
+        int separator = ref.indexOf('/', PREFIX.length());
+        if (separator < 0 || ref.indexOf('/', separator + 1) >= 0) {
+            return null;
+        }
+        ComponentType type = ComponentType.forName(ref.substring(PREFIX.length(), separator));
+        if (type == null) {
+            return null;
+        }
+        String name = unescape(ref.substring(separator + 1));
+        if (name == null || name.isEmpty()) {
+            return null;
+        }
+        return new ComponentKey(type, name);
+    }
+
+    /**
+     * @return the type of the component
+     */
+    public ComponentType getType() {
+        return type;
+    }
+
+    /**
+     * @return the name of the component, as used in the Components element
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the canonical reference to this component, in which the name is escaped as a JSON Pointer token but not
+     * percent-encoded.
+     *
+     * @return the reference, for example {@code #/components/schemas/Pet}
+     */
+    public String getRef() {
+        String result = ref;
+        if (result == null) {
+            result = PREFIX + type.getName() + '/' + escape(name);
+            ref = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ComponentKey)) {
+            return false;
+        }
+        ComponentKey other = (ComponentKey) obj;
+        return hash == other.hash && type == other.type && name.equals(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return getRef();
+    }
+
+    static String escape(String token) {
+        if (token.indexOf('~') < 0 && token.indexOf('/') < 0) {
+            return token;
+        }
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Decodes the JSON Pointer escapes of a reference token.
+     *
+     * @return the decoded token, or null if the token is malformed
+     */
+    static String unescape(String token) {
+        if (token.indexOf('~') < 0) {
+            return token;
+        }
+        StringBuilder sb = new StringBuilder(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '~') {
+                char next = ++i < token.length() ? token.charAt(i) : 0;
+                if (next == '0') {
+                    sb.append('~');
+                } else if (next == '1') {
+                    sb.append('/');
+                } else {
+                    return null;
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Decodes the percent-encoding of a URI fragment.
+     *
+     * @return the decoded fragment, or null if the fragment is malformed
+     */
+    static String percentDecode(String token) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= token.length()) {
+                    return null;
+                }
+                int hi = Character.digit(token.charAt(i + 1), 16);
+                int lo = Character.digit(token.charAt(i + 2), 16);
+                if (hi < 0 || lo < 0) {
+                    return null;
+                }
+                bytes.write((hi << 4) | lo);
+                i += 2;
+            } else if (c < 0x80) {
+                bytes.write(c);
+            } else {
+                int codePoint = token.codePointAt(i);
+                byte[] encoded = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8);
+                bytes.write(encoded, 0, encoded.length);
+                i += Character.charCount(codePoint) - 1;
+            }
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.examples.Example;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+
+/**
+ * The types of reusable objects held by the {@link Components} element of an OpenAPI document, which may be the target
+ * of a reference such as {@code #/components/schemas/Pet}.
+ *
+ * @since 4.2
+ */
+public enum ComponentType {
+
+    SCHEMAS("schemas", Schema.class),
+    RESPONSES("responses", APIResponse.class),
+    PARAMETERS("parameters", Parameter.class),
+    EXAMPLES("examples", Example.class),
+    REQUEST_BODIES("requestBodies", RequestBody.class),
+    HEADERS("headers", Header.class),
+    SECURITY_SCHEMES("securitySchemes", SecurityScheme.class),
+    LINKS("links", Link.class),
+    CALLBACKS("callbacks", Callback.class),
+    PATH_ITEMS("pathItems", PathItem.class);
+
+    private static final ComponentType[] VALUES = values();
+
+    private final String name;
+    private final Class<?> modelType;
+
+    ComponentType(String name, Class<?> modelType) {
+        this.name = name;
+        this.modelType = modelType;
+    }
+
+    /**
+     * Returns the name of the property of the Components element holding this type of object, as it appears in a
+     * reference.
+     *
+     * @return the property name, for example {@code schemas}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the model interface of this type of object.
+     *
+     * @return the model interface, for example {@code Schema.class}
+     */
+    public Class<?> getModelType() {
+        return modelType;
+    }
+
+    /**
+     * Returns the component type with the given property name.
+     *
+     * @param name
+     *            the name of a property of the Components element
+     * @return the component type, or null if the name is not the name of a component type
+     */
+    public static ComponentType forName(String name) {
+        for (ComponentType type : VALUES) {
+            if (type.name.equals(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the entries of this type held by the given Components element.
+     *
+     * @param components
+     *            the Components element
+     * @return the map of entries, which may be null or empty
+     */
+    public Map<String, ?> getEntries(Components components) {
+        switch (this) {
+            case SCHEMAS:
+                return components.getSchemas();
+            case RESPONSES:
+                return components.getResponses();
+            case PARAMETERS:
+                return components.getParameters();
+            case EXAMPLES:
+                return components.getExamples();
+            case REQUEST_BODIES:
+                return components.getRequestBodies();
+            case HEADERS:
+                return components.getHeaders();
+            case SECURITY_SCHEMES:
+                return components.getSecuritySchemes();
+            case LINKS:
+                return components.getLinks();
+            case CALLBACKS:
+                return components.getCallbacks();
+            case PATH_ITEMS:
+                return components.getPathItems();
+            default:
+                throw new IllegalStateException(name());
+        }
+    }
+
+    /**
+     * Removes the entry of this type with the given name from the given Components element.
+     */
+    void remove(Components components, String name) {
+        switch (this) {
+            case SCHEMAS:
+                components.removeSchema(name);
+                break;
+            case RESPONSES:
+                components.removeResponse(name);
+                break;
+            case PARAMETERS:
+                components.removeParameter(name);
+                break;
+            case EXAMPLES:
+                components.removeExample(name);
+                break;
+            case REQUEST_BODIES:
+                components.removeRequestBody(name);
+                break;
+            case HEADERS:
+                components.removeHeader(name);
+                break;
+            case SECURITY_SCHEMES:
+                components.removeSecurityScheme(name);
+                break;
+            case LINKS:
+                components.removeLink(name);
+                break;
+            case CALLBACKS:
+                components.removeCallback(name);
+                break;
+            case PATH_ITEMS:
+                components.removePathItem(name);
+                break;
+            default:
+                throw new IllegalStateException(name());
+        }
+    }
+}
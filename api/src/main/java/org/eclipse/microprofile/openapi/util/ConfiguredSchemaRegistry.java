@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.spi.OASFactoryResolver;
+
+/**
+ * A registry of the schemas configured for classes with the {@link OASConfig#SCHEMA_PREFIX mp.openapi.schema.*}
+ * configuration properties.
+ * <p>
+ * The value of each property is parsed with {@link OASFactoryResolver#parseSchema(String)} the first time the schema
+ * of its class is requested, and the result is kept, so that the value is parsed at most once however many times the
+ * class is encountered while scanning. The {@code name} property of the value, which is the name of the schema in the
+ * {@code Components} element rather than a schema keyword, is removed from the schema and available from
+ * {@link #getSchemaName(String)}. The schemas returned are frozen with
+ * {@link OASFactory#freeze(org.eclipse.microprofile.openapi.models.Constructible) OASFactory.freeze}, so that the same
+ * instance can be shared by all uses of the class.
+ * <p>
+ * Instances of this class are safe for use by multiple concurrent threads.
+ *
+ * @since 4.2
+ */
+public final class ConfiguredSchemaRegistry {
+
+    private static final String NAME = "name";
+
+    private final Map<String, String> values;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private ConfiguredSchemaRegistry(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * Creates a registry of the schemas configured by the given configuration properties. The values of the properties
+     * whose name starts with {@link OASConfig#SCHEMA_PREFIX} are read when the registry is created, but not parsed.
+     *
+     * @param propertyNames
+     *            the names of the configuration properties, other properties are ignored
+     * @param config
+     *            returns the value of the configuration property with the given name, or null if it is not set
+     * @return the registry
+     */
+    public static ConfiguredSchemaRegistry of(Iterable<String> propertyNames, Function<String, String> config) {
+        Map<String, String> values = new HashMap<>();
+        for (String propertyName : propertyNames) {
+            if (propertyName.startsWith(OASConfig.SCHEMA_PREFIX)
+                    && propertyName.length() > OASConfig.SCHEMA_PREFIX.length()) {
+                String value = config.apply(propertyName);
+                if (value != null && !value.trim().isEmpty()) {
+                    values.put(propertyName.substring(OASConfig.SCHEMA_PREFIX.length()), value);
+                }
+            }
+        }
+        return new ConfiguredSchemaRegistry(values);
+    }
+
+    /**
+     * Returns the names of the classes with a configured schema.
+     *
+     * @return the fully qualified class names
+     */
+    public Set<String> getClassNames() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    /**
+     * Checks whether a schema is configured for the given class.
+     *
+     * @param className
+     *            the fully qualified name of a class
+     * @return true if a schema is configured for the class, otherwise false
+     */
+    public boolean contains(String className) {
+        return values.containsKey(className);
+    }
+
+    /**
+     * Returns the schema configured for the given class. Each call with the same class name returns the same instance.
+     *
+     * @param className
+     *            the fully qualified name of a class
+     * @return the frozen schema, or null if no schema is configured for the class
+     * @throws IllegalArgumentException
+     *             if the configured value is not a JSON object
+     */
+    public Schema getSchema(String className) {
+        Entry entry = entry(className);
+        return entry == null ? null : entry.schema;
+    }
+
+    /**
+     * Returns the name under which the schema configured for the given class is added to the {@code Components}
+     * element, given by the {@code name} property of the configured value.
+     *
+     * @param className
+     *            the fully qualified name of a class
+     * @return the name, or null if no schema is configured for the class or the configured value has no name
+     * @throws IllegalArgumentException
+     *             if the configured value is not a JSON object
+     */
+    public String getSchemaName(String className) {
+        Entry entry = entry(className);
+        return entry == null ? null : entry.name;
+    }
+
+    private Entry entry(String className) {
+        Entry entry = entries.get(className);
+        if (entry == null) {
+            String value = values.get(className);
+            if (value == null) {
+                return null;
+            }
+            // computeIfAbsent parses each value once, even when requested concurrently
+            entry = entries.computeIfAbsent(className, k -> parse(value));
+        }
+        return entry;
+    }
+
+    private static Entry parse(String value) {
+        Schema schema = OASFactoryResolver.instance().parseSchema(value);
+        Object name = schema.get(NAME);
+        if (name instanceof String) {
+            schema.set(NAME, null);
+        }
+        return new Entry(OASFactory.freeze(schema), name instanceof String ? (String) name : null);
+    }
+
+    /**
+     * A parsed configured schema.
+     */
+    private static final class Entry {
+
+        private final Schema schema;
+        private final String name;
+
+        Entry(Schema schema, String name) {
+            this.schema = schema;
+            this.name = name;
+        }
+    }
+}
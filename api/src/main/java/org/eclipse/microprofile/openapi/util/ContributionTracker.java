@@ -0,0 +1,339 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * Tracks the paths, components, tags and webhooks contributed by each class to a model built from annotations, so that
+ * when some classes change, only the parts of the model they contributed to need to be built again, as allowed by the
+ * {@link OASConfig#MODEL_INCREMENTAL} configuration property.
+ * <p>
+ * The contribution of a class is the partial model produced by processing the annotations of that class alone. For each
+ * class, the tracker records the paths of its {@link Paths} element, the entries of its {@link Components} element, the
+ * names of its tags and the names of its webhooks. When a class changes, the parts to build again are those it
+ * contributed before the change, returned by {@link #remove(String)}, and those it contributes after the change,
+ * recorded by {@link #put(String, OpenAPI)}. Each of them is built again by merging the contributions of the classes
+ * returned by {@link #getContributors(String)}, {@link #getContributors(ComponentKey)},
+ * {@link #getTagContributors(String)} or {@link #getWebhookContributors(String)}, which are ordered by class name so
+ * that the merge is deterministic.
+ * <p>
+ * The other elements of the model, such as the info, servers and security requirements declared with
+ * {@link org.eclipse.microprofile.openapi.annotations.OpenAPIDefinition OpenAPIDefinition}, are not tracked. The
+ * {@link Changes} returned when a class contributed any of them before or after a change
+ * {@linkplain Changes#isFullBuildRequired() require a full build}.
+ * <p>
+ * Instances of this class are not safe for use by multiple concurrent threads.
+ *
+ * @since 4.2
+ */
+public final class ContributionTracker {
+
+    private final Map<String, Contribution> contributions = new HashMap<>();
+    private final Map<String, Set<String>> pathContributors = new HashMap<>();
+    private final Map<ComponentKey, Set<String>> componentContributors = new HashMap<>();
+    private final Map<String, Set<String>> tagContributors = new HashMap<>();
+    private final Map<String, Set<String>> webhookContributors = new HashMap<>();
+
+    private ContributionTracker() {
+    }
+
+    /**
+     * Creates a tracker holding no contribution.
+     *
+     * @return the new tracker
+     */
+    public static ContributionTracker create() {
+        return new ContributionTracker();
+    }
+
+    /**
+     * Records the contribution of a class, replacing its previous contribution.
+     *
+     * @param className
+     *            the fully qualified name of the class
+     * @param contribution
+     *            the partial model produced by processing the annotations of the class
+     * @return the parts of the model contributed by the class before or after this call, which are the parts of the
+     *         model to build again
+     */
+    public Changes put(String className, OpenAPI contribution) {
+        Changes changes = remove(className);
+        Contribution added = new Contribution();
+        Paths paths = contribution.getPaths();
+        if (paths != null && paths.getPathItems() != null) {
+            added.paths.addAll(paths.getPathItems().keySet());
+        }
+        Components components = contribution.getComponents();
+        if (components != null) {
+            for (ComponentType type : ComponentType.values()) {
+                Map<String, ?> entries = type.getEntries(components);
+                if (entries != null) {
+                    for (String name : entries.keySet()) {
+                        added.components.add(ComponentKey.of(type, name));
+                    }
+                }
+            }
+        }
+        List<Tag> tags = contribution.getTags();
+        if (tags != null) {
+            for (Tag tag : tags) {
+                added.tags.add(tag.getName());
+            }
+        }
+        if (contribution.getWebhooks() != null) {
+            added.webhooks.addAll(contribution.getWebhooks().keySet());
+        }
+        added.definition = contribution.getInfo() != null || contribution.getExternalDocs() != null
+                || contribution.getJsonSchemaDialect() != null || !isEmpty(contribution.getServers())
+                || !isEmpty(contribution.getSecurity()) || !isEmpty(contribution.getExtensions());
+        addContributor(pathContributors, added.paths, className);
+        addContributor(componentContributors, added.components, className);
+        addContributor(tagContributors, added.tags, className);
+        addContributor(webhookContributors, added.webhooks, className);
+        contributions.put(className, added);
+        changes.add(added);
+        return changes;
+    }
+
+    /**
+     * Removes the contribution of a class, for example when the class is deleted.
+     *
+     * @param className
+     *            the fully qualified name of the class
+     * @return the parts of the model contributed by the class, which are the parts of the model to build again
+     */
+    public Changes remove(String className) {
+        Changes changes = new Changes();
+        Contribution removed = contributions.remove(className);
+        if (removed != null) {
+            removeContributor(pathContributors, removed.paths, className);
+            removeContributor(componentContributors, removed.components, className);
+            removeContributor(tagContributors, removed.tags, className);
+            removeContributor(webhookContributors, removed.webhooks, className);
+            changes.add(removed);
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the parts of the model contributed by any of the given classes, which are the parts of the model to
+     * build again when the classes change.
+     *
+     * @param classNames
+     *            the fully qualified names of classes
+     * @return the contributed parts of the model
+     */
+    public Changes getContributions(Collection<String> classNames) {
+        Changes changes = new Changes();
+        for (String className : classNames) {
+            Contribution contribution = contributions.get(className);
+            if (contribution != null) {
+                changes.add(contribution);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the names of the classes with a recorded contribution.
+     *
+     * @return the fully qualified class names
+     */
+    public Set<String> getClassNames() {
+        return Collections.unmodifiableSet(contributions.keySet());
+    }
+
+    /**
+     * Returns the classes contributing to the given path.
+     *
+     * @param path
+     *            a path of the {@link Paths} element
+     * @return the fully qualified names of the classes, ordered by name
+     */
+    public Set<String> getContributors(String path) {
+        Set<String> contributors = pathContributors.get(path);
+        return contributors == null ? Collections.emptySet() : Collections.unmodifiableSet(contributors);
+    }
+
+    /**
+     * Returns the classes contributing to the given component.
+     *
+     * @param key
+     *            the key of an entry of the {@link Components} element
+     * @return the fully qualified names of the classes, ordered by name
+     */
+    public Set<String> getContributors(ComponentKey key) {
+        return contributors(componentContributors, key);
+    }
+
+    /**
+     * Returns the classes contributing to the tag with the given name.
+     *
+     * @param name
+     *            the name of a tag of the model
+     * @return the fully qualified names of the classes, ordered by name
+     */
+    public Set<String> getTagContributors(String name) {
+        return contributors(tagContributors, name);
+    }
+
+    /**
+     * Returns the classes contributing to the webhook with the given name.
+     *
+     * @param name
+     *            the name of a webhook of the model
+     * @return the fully qualified names of the classes, ordered by name
+     */
+    public Set<String> getWebhookContributors(String name) {
+        return contributors(webhookContributors, name);
+    }
+
+    private static boolean isEmpty(Collection<?> collection) {
+        return collection == null || collection.isEmpty();
+    }
+
+    private static boolean isEmpty(Map<?, ?> map) {
+        return map == null || map.isEmpty();
+    }
+
+    private static <K> Set<String> contributors(Map<K, Set<String>> contributors, K key) {
+        Set<String> classNames = contributors.get(key);
+        return classNames == null ? Collections.emptySet() : Collections.unmodifiableSet(classNames);
+    }
+
+    private static <K> void addContributor(Map<K, Set<String>> contributors, Set<K> keys, String className) {
+        for (K key : keys) {
+            contributors.computeIfAbsent(key, k -> new TreeSet<>()).add(className);
+        }
+    }
+
+    private static <K> void removeContributor(Map<K, Set<String>> contributors, Set<K> keys, String className) {
+        for (K key : keys) {
+            Set<String> classNames = contributors.get(key);
+            if (classNames != null) {
+                classNames.remove(className);
+                if (classNames.isEmpty()) {
+                    contributors.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * The parts of the model recorded for a class.
+     */
+    private static final class Contribution {
+
+        private final Set<String> paths = new LinkedHashSet<>();
+        private final Set<ComponentKey> components = new LinkedHashSet<>();
+        private final Set<String> tags = new LinkedHashSet<>();
+        private final Set<String> webhooks = new LinkedHashSet<>();
+        private boolean definition;
+    }
+
+    /**
+     * The parts of the model affected by a change of the contributions.
+     */
+    public static final class Changes {
+
+        private final Set<String> paths = new LinkedHashSet<>();
+        private final Set<ComponentKey> components = new LinkedHashSet<>();
+        private final Set<String> tags = new LinkedHashSet<>();
+        private final Set<String> webhooks = new LinkedHashSet<>();
+        private boolean fullBuildRequired;
+
+        Changes() {
+        }
+
+        void add(Contribution contribution) {
+            paths.addAll(contribution.paths);
+            components.addAll(contribution.components);
+            tags.addAll(contribution.tags);
+            webhooks.addAll(contribution.webhooks);
+            fullBuildRequired |= contribution.definition;
+        }
+
+        /**
+         * Returns the affected paths of the {@link Paths} element.
+         *
+         * @return the paths
+         */
+        public Set<String> getPaths() {
+            return Collections.unmodifiableSet(paths);
+        }
+
+        /**
+         * Returns the affected entries of the {@link Components} element.
+         *
+         * @return the keys of the components
+         */
+        public Set<ComponentKey> getComponents() {
+            return Collections.unmodifiableSet(components);
+        }
+
+        /**
+         * Returns the names of the affected tags of the model.
+         *
+         * @return the tag names
+         */
+        public Set<String> getTags() {
+            return Collections.unmodifiableSet(tags);
+        }
+
+        /**
+         * Returns the names of the affected webhooks of the model.
+         *
+         * @return the webhook names
+         */
+        public Set<String> getWebhooks() {
+            return Collections.unmodifiableSet(webhooks);
+        }
+
+        /**
+         * Checks whether an element of the model which is not tracked, such as the info, servers or security
+         * requirements, is affected, in which case the model must be built again by applying all the processing rules.
+         *
+         * @return true if a full build is required, otherwise false
+         */
+        public boolean isFullBuildRequired() {
+            return fullBuildRequired;
+        }
+
+        /**
+         * Checks whether no part of the model is affected.
+         *
+         * @return true if no part of the model is affected, otherwise false
+         */
+        public boolean isEmpty() {
+            return paths.isEmpty() && components.isEmpty() && tags.isEmpty() && webhooks.isEmpty()
+                    && !fullBuildRequired;
+        }
+    }
+}
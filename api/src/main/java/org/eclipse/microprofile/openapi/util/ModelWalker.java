@@ -0,0 +1,435 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.util.Collection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.Reference;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.examples.Example;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+
+/**
+ * Walks the model elements of an OpenAPI document in a single depth-first pass, reporting the components referred to by
+ * the elements visited.
+ * <p>
+ * An element reached more than once from the same top-level path item, operation or component is only visited once,
+ * so that the walk terminates for models containing cycles of Java references.
+ */
+abstract class ModelWalker {
+
+    /**
+     * The schema properties whose subschemas are returned by the getters of {@link Schema}.
+     */
+    private static final Set<String> TYPED_SUBSCHEMA_PROPERTIES = new HashSet<>(Arrays.asList("not", "items",
+            "additionalProperties", "if", "then", "else", "contains", "propertyNames", "unevaluatedItems",
+            "unevaluatedProperties", "contentSchema", "allOf", "anyOf", "oneOf", "prefixItems", "properties",
+            "patternProperties", "dependentSchemas"));
+
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ReferenceIndex index;
+    private int callbackDepth;
+    private boolean inComponents;
+
+    ModelWalker(ReferenceIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Called for each reference to a component found in the index.
+     *
+     * @param key
+     *            the key of the component referred to, as returned by {@link ReferenceIndex#keyOf(String)}
+     */
+    abstract void reference(ComponentKey key);
+
+    /**
+     * Called before the elements of a top-level operation, that is an operation of the paths or webhooks of the
+     * document that is not part of a callback.
+     */
+    void enterOperation(Operation operation) {
+    }
+
+    /**
+     * Called after the elements of a top-level operation.
+     */
+    void exitOperation(Operation operation) {
+    }
+
+    /**
+     * Called before the elements of a component.
+     */
+    void enterComponent(ComponentKey key) {
+    }
+
+    /**
+     * Called after the elements of a component.
+     */
+    void exitComponent(ComponentKey key) {
+    }
+
+    void walk(OpenAPI openAPI) {
+        visited.clear();
+        security(openAPI.getSecurity());
+        Paths paths = openAPI.getPaths();
+        if (paths != null) {
+            pathItems(paths.getPathItems());
+        }
+        pathItems(openAPI.getWebhooks());
+        Components components = openAPI.getComponents();
+        if (components != null) {
+            components(components);
+        }
+    }
+
+    private void components(Components components) {
+        inComponents = true;
+        for (ComponentType type : ComponentType.values()) {
+            Map<String, ?> entries = type.getEntries(components);
+            if (entries == null) {
+                continue;
+            }
+            for (Map.Entry<String, ?> entry : entries.entrySet()) {
+                ComponentKey key = entry.getKey() == null ? null
+                        : index.keyOf(ComponentKey.of(type, entry.getKey()).getRef());
+                if (key == null) {
+                    continue;
+                }
+                visited.clear();
+                enterComponent(key);
+                element(entry.getValue());
+                exitComponent(key);
+            }
+        }
+        inComponents = false;
+    }
+
+    private void pathItems(Map<String, PathItem> pathItems) {
+        if (pathItems == null) {
+            return;
+        }
+        for (PathItem pathItem : pathItems.values()) {
+            if (callbackDepth == 0) {
+                visited.clear();
+            }
+            pathItem(pathItem);
+        }
+    }
+
+    private void element(Object element) {
+        if (element instanceof Schema) {
+            schema((Schema) element);
+        } else if (element instanceof PathItem) {
+            pathItem((PathItem) element);
+        } else if (element instanceof Parameter) {
+            parameter((Parameter) element);
+        } else if (element instanceof RequestBody) {
+            requestBody((RequestBody) element);
+        } else if (element instanceof APIResponse) {
+            response((APIResponse) element);
+        } else if (element instanceof Header) {
+            header((Header) element);
+        } else if (element instanceof Callback) {
+            callback((Callback) element);
+        } else if (element instanceof Example || element instanceof Link || element instanceof SecurityScheme) {
+            ref((Reference<?>) element);
+        }
+    }
+
+    private boolean visit(Object element) {
+        return element != null && visited.add(element);
+    }
+
+    private void ref(Reference<?> element) {
+        String ref = element.getRef();
+        if (ref != null) {
+            ComponentKey key = index.keyOf(ref);
+            if (key != null) {
+                reference(key);
+            }
+        }
+    }
+
+    private void pathItem(PathItem pathItem) {
+        if (!visit(pathItem)) {
+            return;
+        }
+        ref(pathItem);
+        parameters(pathItem.getParameters());
+        Map<PathItem.HttpMethod, Operation> operations = pathItem.getOperations();
+        if (operations != null) {
+            for (Operation operation : operations.values()) {
+                operation(operation);
+            }
+        }
+    }
+
+    private void operation(Operation operation) {
+        boolean topLevel = callbackDepth == 0 && !inComponents;
+        if (topLevel) {
+            visited.clear();
+        }
+        if (!visit(operation)) {
+            return;
+        }
+        if (topLevel) {
+            enterOperation(operation);
+        }
+        parameters(operation.getParameters());
+        requestBody(operation.getRequestBody());
+        APIResponses responses = operation.getResponses();
+        if (responses != null) {
+            values(responses.getAPIResponses());
+        }
+        Map<String, Callback> callbacks = operation.getCallbacks();
+        if (callbacks != null) {
+            callbackDepth++;
+            try {
+                values(callbacks);
+            } finally {
+                callbackDepth--;
+            }
+        }
+        security(operation.getSecurity());
+        if (topLevel) {
+            exitOperation(operation);
+        }
+    }
+
+    private void callback(Callback callback) {
+        if (!visit(callback)) {
+            return;
+        }
+        ref(callback);
+        Map<String, PathItem> pathItems = callback.getPathItems();
+        if (pathItems != null) {
+            for (PathItem pathItem : pathItems.values()) {
+                pathItem(pathItem);
+            }
+        }
+    }
+
+    private void parameters(List<Parameter> parameters) {
+        if (parameters != null) {
+            for (Parameter parameter : parameters) {
+                parameter(parameter);
+            }
+        }
+    }
+
+    private void parameter(Parameter parameter) {
+        if (!visit(parameter)) {
+            return;
+        }
+        ref(parameter);
+        schema(parameter.getSchema());
+        values(parameter.getExamples());
+        content(parameter.getContent());
+    }
+
+    private void header(Header header) {
+        if (!visit(header)) {
+            return;
+        }
+        ref(header);
+        schema(header.getSchema());
+        values(header.getExamples());
+        content(header.getContent());
+    }
+
+    private void requestBody(RequestBody requestBody) {
+        if (!visit(requestBody)) {
+            return;
+        }
+        ref(requestBody);
+        content(requestBody.getContent());
+    }
+
+    private void response(APIResponse response) {
+        if (!visit(response)) {
+            return;
+        }
+        ref(response);
+        values(response.getHeaders());
+        content(response.getContent());
+        values(response.getLinks());
+    }
+
+    private void content(Content content) {
+        if (!visit(content)) {
+            return;
+        }
+        Map<String, MediaType> mediaTypes = content.getMediaTypes();
+        if (mediaTypes == null) {
+            return;
+        }
+        for (MediaType mediaType : mediaTypes.values()) {
+            if (!visit(mediaType)) {
+                continue;
+            }
+            schema(mediaType.getSchema());
+            values(mediaType.getExamples());
+            Map<String, Encoding> encodings = mediaType.getEncoding();
+            if (encodings != null) {
+                for (Encoding encoding : encodings.values()) {
+                    if (visit(encoding)) {
+                        values(encoding.getHeaders());
+                    }
+                }
+            }
+        }
+    }
+
+    private void schema(Schema schema) {
+        if (!visit(schema)) {
+            return;
+        }
+        ref(schema);
+        Discriminator discriminator = schema.getDiscriminator();
+        if (discriminator != null && discriminator.getMapping() != null) {
+            for (String value : discriminator.getMapping().values()) {
+                if (value != null) {
+                    ComponentKey key = index.keyOf(value.startsWith("#")
+                            ? value
+                            : ComponentKey.of(ComponentType.SCHEMAS, value).getRef());
+                    if (key != null) {
+                        reference(key);
+                    }
+                }
+            }
+        }
+        forEachSubschema(schema, this::schema);
+    }
+
+    private void security(List<SecurityRequirement> requirements) {
+        if (requirements == null) {
+            return;
+        }
+        for (SecurityRequirement requirement : requirements) {
+            Map<String, List<String>> schemes = requirement == null ? null : requirement.getSchemes();
+            if (schemes == null) {
+                continue;
+            }
+            for (String name : schemes.keySet()) {
+                ComponentKey key = index.keyOf(ComponentKey.of(ComponentType.SECURITY_SCHEMES, name).getRef());
+                if (key != null) {
+                    reference(key);
+                }
+            }
+        }
+    }
+
+    private void values(Map<String, ?> elements) {
+        if (elements != null) {
+            for (Object element : elements.values()) {
+                element(element);
+            }
+        }
+    }
+
+    /**
+     * Passes each non-null schema directly nested in the given schema to the given action, including the schemas of
+     * properties without a typed getter, such as {@code $defs}, which are only available from {@link Schema#getAll()}.
+     */
+    static void forEachSubschema(Schema schema, Consumer<Schema> action) {
+        accept(schema.getNot(), action);
+        accept(schema.getItems(), action);
+        accept(schema.getAdditionalPropertiesSchema(), action);
+        accept(schema.getIfSchema(), action);
+        accept(schema.getThenSchema(), action);
+        accept(schema.getElseSchema(), action);
+        accept(schema.getContains(), action);
+        accept(schema.getPropertyNames(), action);
+        accept(schema.getUnevaluatedItems(), action);
+        accept(schema.getUnevaluatedProperties(), action);
+        accept(schema.getContentSchema(), action);
+        forEach(schema.getAllOf(), action);
+        forEach(schema.getAnyOf(), action);
+        forEach(schema.getOneOf(), action);
+        forEach(schema.getPrefixItems(), action);
+        forEach(schema.getProperties(), action);
+        forEach(schema.getPatternProperties(), action);
+        forEach(schema.getDependentSchemas(), action);
+        for (Map.Entry<String, ?> entry : schema.getAll().entrySet()) {
+            if (!TYPED_SUBSCHEMA_PROPERTIES.contains(entry.getKey())) {
+                untyped(entry.getValue(), action);
+            }
+        }
+    }
+
+    private static void untyped(Object value, Consumer<Schema> action) {
+        if (value instanceof Schema) {
+            action.accept((Schema) value);
+        } else if (value instanceof Map) {
+            for (Object item : ((Map<?, ?>) value).values()) {
+                if (item instanceof Schema) {
+                    action.accept((Schema) item);
+                }
+            }
+        } else if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                if (item instanceof Schema) {
+                    action.accept((Schema) item);
+                }
+            }
+        }
+    }
+
+    private static void accept(Schema schema, Consumer<Schema> action) {
+        if (schema != null) {
+            action.accept(schema);
+        }
+    }
+
+    private static void forEach(Collection<Schema> schemas, Consumer<Schema> action) {
+        if (schemas != null) {
+            for (Schema schema : schemas) {
+                accept(schema, action);
+            }
+        }
+    }
+
+    private static void forEach(Map<String, Schema> schemas, Consumer<Schema> action) {
+        if (schemas != null) {
+            forEach(schemas.values(), action);
+        }
+    }
+}
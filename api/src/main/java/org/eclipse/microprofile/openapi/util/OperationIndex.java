@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+
+/**
+ * An index of the operations of the paths and webhooks of an OpenAPI document, by operationId and by tag.
+ * <p>
+ * The index is built in a single pass over the operations of the document, during which duplicate operationIds are
+ * detected. Each lookup is then a single hash lookup.
+ * <p>
+ * Like {@link ReferenceIndex}, the index reflects the document at the time the index was created. Instances of this
+ * class are immutable and safe for use by multiple concurrent threads.
+ *
+ * @since 4.2
+ */
+public final class OperationIndex {
+
+    private final Map<String, Operation> operationsById = new HashMap<>();
+    private final Map<String, String> locationsById = new HashMap<>();
+    private final Map<String, List<Operation>> operationsByTag = new LinkedHashMap<>();
+
+    private OperationIndex(OpenAPI openAPI) {
+        Paths paths = openAPI.getPaths();
+        if (paths != null) {
+            add(paths.getPathItems(), "");
+        }
+        add(openAPI.getWebhooks(), "webhook ");
+        for (Map.Entry<String, List<Operation>> entry : operationsByTag.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+    }
+
+    /**
+     * Creates the operation index of the given OpenAPI document.
+     *
+     * @param openAPI
+     *            the OpenAPI document
+     * @return the operation index
+     * @throws IllegalArgumentException
+     *             if two operations of the document have the same operationId
+     */
+    public static OperationIndex of(OpenAPI openAPI) {
+        return new OperationIndex(openAPI);
+    }
+
+    private void add(Map<String, PathItem> pathItems, String kind) {
+        if (pathItems == null) {
+            return;
+        }
+        for (Map.Entry<String, PathItem> pathEntry : pathItems.entrySet()) {
+            Map<PathItem.HttpMethod, Operation> operations = pathEntry.getValue() == null
+                    ? null
+                    : pathEntry.getValue().getOperations();
+            if (operations == null) {
+                continue;
+            }
+            for (Map.Entry<PathItem.HttpMethod, Operation> entry : operations.entrySet()) {
+                Operation operation = entry.getValue();
+                String operationId = operation.getOperationId();
+                if (operationId != null) {
+                    String location = entry.getKey() + " " + kind + pathEntry.getKey();
+                    String previous = locationsById.putIfAbsent(operationId, location);
+                    if (previous != null) {
+                        throw new IllegalArgumentException("Duplicate operationId " + operationId + " for operations "
+                                + previous + " and " + location);
+                    }
+                    operationsById.put(operationId, operation);
+                }
+                List<String> tags = operation.getTags();
+                if (tags != null) {
+                    for (String tag : tags) {
+                        List<Operation> tagged = operationsByTag.computeIfAbsent(tag, k -> new ArrayList<>());
+                        if (tagged.isEmpty() || tagged.get(tagged.size() - 1) != operation) {
+                            tagged.add(operation);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param operationId
+     *            the operationId of an operation
+     * @return the operation with the given operationId, or null if there is none
+     */
+    public Operation getOperation(String operationId) {
+        return operationsById.get(operationId);
+    }
+
+    /**
+     * @return an unmodifiable set of the operationIds of the operations
+     */
+    public Set<String> getOperationIds() {
+        return Collections.unmodifiableSet(operationsById.keySet());
+    }
+
+    /**
+     * @param tag
+     *            the name of a tag
+     * @return an unmodifiable list of the operations with the given tag, in the order of the document, which is empty
+     *         if there are none
+     */
+    public List<Operation> getOperationsByTag(String tag) {
+        List<Operation> operations = operationsByTag.get(tag);
+        return operations == null ? Collections.emptyList() : operations;
+    }
+
+    /**
+     * @return an unmodifiable set of the tags used by the operations, in the order they are first used
+     */
+    public Set<String> getTags() {
+        return Collections.unmodifiableSet(operationsByTag.keySet());
+    }
+}
@@ -0,0 +1,666 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter.In;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter.Style;
+
+/**
+ * A plan for binding the parameters of an operation to the values of a request, compiled once from the
+ * {@link Operation} and {@link PathItem} models.
+ * <p>
+ * Compiling the plan merges the parameters of the path item and of the operation, resolves their references, and
+ * prepares for each parameter a binder specific to its location, style, {@code explode} setting and schema. The path
+ * template is compiled into a matcher that extracts the values of the path parameters without regular expressions.
+ * Binding a request then only performs the lookups and parsing needed for the declared parameters.
+ * <p>
+ * The value bound to a parameter depends on the type of its schema:
+ * <ul>
+ * <li>{@code array}: a {@code List} of the items</li>
+ * <li>{@code object}: a {@code Map} of the property names to their values</li>
+ * <li>otherwise: a single value</li>
+ * </ul>
+ * Values whose schema has the type {@code integer}, {@code number} or {@code boolean} are converted to {@code Long} (or
+ * {@code BigInteger} if too large), {@code BigDecimal} or {@code Boolean}, and are left as a {@code String} if they
+ * cannot be converted. The values are suitable for validation with a {@link SchemaValidator}. Parameters described with
+ * {@code content} instead of {@code schema} are bound to the {@code String} value of the request.
+ * <p>
+ * Instances of this class are immutable and safe for use by multiple concurrent threads.
+ *
+ * @since 4.2
+ */
+public final class ParameterBindingPlan {
+
+    /**
+     * The values of a request that parameters are bound to.
+     */
+    public interface Request {
+
+        /**
+         * @return the path of the request relative to the server URL, not decoded
+         */
+        String getPath();
+
+        /**
+         * @param name
+         *            the name of a query parameter
+         * @return the decoded values of the query parameter, or null or an empty list if the parameter is absent
+         */
+        List<String> getQueryParameter(String name);
+
+        /**
+         * @return the names of all the query parameters of the request
+         */
+        Set<String> getQueryParameterNames();
+
+        /**
+         * @param name
+         *            the name of a header, matched case-insensitively
+         * @return the values of the header, or null or an empty list if the header is absent
+         */
+        List<String> getHeader(String name);
+
+        /**
+         * @param name
+         *            the name of a cookie
+         * @return the value of the cookie, or null if the cookie is absent
+         */
+        String getCookie(String name);
+    }
+
+    private static final int KIND_STRING = 0;
+    private static final int KIND_INTEGER = 1;
+    private static final int KIND_NUMBER = 2;
+    private static final int KIND_BOOLEAN = 3;
+
+    private static final int SHAPE_PRIMITIVE = 0;
+    private static final int SHAPE_ARRAY = 1;
+    private static final int SHAPE_OBJECT = 2;
+    private static final int SHAPE_RAW = 3;
+
+    private final PathTemplate template;
+    private final List<Parameter> parameters;
+    private final Binder[] binders;
+
+    private ParameterBindingPlan(PathTemplate template, List<Parameter> parameters, Binder[] binders) {
+        this.template = template;
+        this.parameters = parameters;
+        this.binders = binders;
+    }
+
+    /**
+     * Compiles the binding plan of an operation whose parameters contain no references.
+     *
+     * @param path
+     *            the path template of the path item, for example {@code /pets/{petId}}
+     * @param pathItem
+     *            the path item, whose parameters apply to the operation, may be null
+     * @param operation
+     *            the operation
+     * @return the binding plan
+     * @throws IllegalArgumentException
+     *             if a parameter is a reference or has no name or location, or a path parameter does not appear in
+     *             the path template
+     */
+    public static ParameterBindingPlan compile(String path, PathItem pathItem, Operation operation) {
+        return compile(path, pathItem, operation, ReferenceIndex.of((Components) null));
+    }
+
+    /**
+     * Compiles the binding plan of an operation, resolving the references of its parameters and their schemas with the
+     * given index.
+     *
+     * @param path
+     *            the path template of the path item, for example {@code /pets/{petId}}
+     * @param pathItem
+     *            the path item, whose parameters apply to the operation, may be null
+     * @param operation
+     *            the operation
+     * @param references
+     *            the index of the components the parameters may refer to
+     * @return the binding plan
+     * @throws IllegalArgumentException
+     *             if a reference cannot be resolved, a parameter has no name or location, or a path parameter does
+     *             not appear in the path template
+     */
+    public static ParameterBindingPlan compile(String path, PathItem pathItem, Operation operation,
+            ReferenceIndex references) {
+        PathTemplate template = new PathTemplate(path);
+        // Operation parameters override the path item parameters with the same name and location
+        Map<String, Parameter> merged = new LinkedHashMap<>();
+        if (pathItem != null) {
+            addParameters(merged, pathItem.getParameters(), references);
+        }
+        addParameters(merged, operation.getParameters(), references);
+        List<Parameter> parameters = new ArrayList<>(merged.values());
+        Binder[] binders = new Binder[parameters.size()];
+        for (int i = 0; i < binders.length; i++) {
+            binders[i] = new Binder(parameters.get(i), template, references);
+        }
+        return new ParameterBindingPlan(template, Collections.unmodifiableList(parameters), binders);
+    }
+
+    private static void addParameters(Map<String, Parameter> merged, List<Parameter> parameters,
+            ReferenceIndex references) {
+        if (parameters == null) {
+            return;
+        }
+        for (Parameter parameter : parameters) {
+            Parameter resolved = parameter;
+            if (parameter.getRef() != null) {
+                resolved = references.resolve(parameter);
+                if (resolved == null) {
+                    throw new IllegalArgumentException("Cannot resolve parameter reference " + parameter.getRef());
+                }
+            }
+            if (resolved.getIn() == null || resolved.getName() == null) {
+                throw new IllegalArgumentException("Parameter without a name or location: in " + resolved.getIn()
+                        + ", name " + resolved.getName());
+            }
+            merged.put(key(resolved.getIn(), resolved.getName()), resolved);
+        }
+    }
+
+    private static String key(In in, String name) {
+        // Header names are case-insensitive
+        return in + ":" + (in == In.HEADER ? name.toLowerCase(Locale.ROOT) : name);
+    }
+
+    /**
+     * @return an unmodifiable list of the parameters of the plan, after resolving references, in the order of the
+     *         values returned by {@link #bind(Request)}
+     */
+    public List<Parameter> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Returns the position of a parameter in the values returned by {@link #bind(Request)}.
+     *
+     * @param in
+     *            the location of the parameter
+     * @param name
+     *            the name of the parameter
+     * @return the index of the parameter, or -1 if the plan has no such parameter
+     */
+    public int indexOf(In in, String name) {
+        for (int i = 0; i < binders.length; i++) {
+            Binder binder = binders[i];
+            if (binder.in == in && (in == In.HEADER ? binder.name.equalsIgnoreCase(name) : binder.name.equals(name))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the given path matches the path template of the plan.
+     *
+     * @param path
+     *            a request path relative to the server URL, not decoded
+     * @return true if the path matches the template
+     */
+    public boolean matches(String path) {
+        return template.match(path, null);
+    }
+
+    /**
+     * Binds the parameters of the plan to the values of the given request.
+     * <p>
+     * The value of a parameter absent from the request is null. Checking that the required parameters are present, and
+     * validating the values against their schemas, is left to the caller.
+     *
+     * @param request
+     *            the request
+     * @return the values of the parameters, in the order of {@link #getParameters()}
+     * @throws IllegalArgumentException
+     *             if the path of the request does not match the path template of the plan
+     */
+    public Object[] bind(Request request) {
+        String[] pathValues = template.variableCount == 0 ? null : new String[template.variableCount];
+        if (!template.match(request.getPath(), pathValues)) {
+            throw new IllegalArgumentException("Path " + request.getPath() + " does not match " + template.path);
+        }
+        Object[] values = new Object[binders.length];
+        for (int i = 0; i < binders.length; i++) {
+            values[i] = binders[i].bind(request, pathValues);
+        }
+        return values;
+    }
+
+    /**
+     * A path template, split into segments which are either literal or contain a single variable between an optional
+     * literal prefix and suffix.
+     */
+    private static final class PathTemplate {
+
+        private final String path;
+        private final String[] prefixes;
+        private final String[] suffixes;
+        private final int[] variables;
+        private final String[] variableNames;
+        private final int variableCount;
+
+        PathTemplate(String path) {
+            this.path = path;
+            List<String> segments = split(path, '/');
+            int count = segments.size();
+            prefixes = new String[count];
+            suffixes = new String[count];
+            variables = new int[count];
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String segment = segments.get(i);
+                int open = segment.indexOf('{');
+                int close = segment.indexOf('}', open + 1);
+                if (open < 0 || close < 0) {
+                    prefixes[i] = segment;
+                    variables[i] = -1;
+                } else {
+                    prefixes[i] = segment.substring(0, open);
+                    suffixes[i] = segment.substring(close + 1);
+                    variables[i] = names.size();
+                    names.add(segment.substring(open + 1, close));
+                }
+            }
+            variableNames = names.toArray(new String[0]);
+            variableCount = variableNames.length;
+        }
+
+        int indexOf(String name) {
+            for (int i = 0; i < variableNames.length; i++) {
+                if (variableNames[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        boolean match(String path, String[] values) {
+            int start = 0;
+            for (int i = 0; i < prefixes.length; i++) {
+                if (start > path.length()) {
+                    return false;
+                }
+                int end = path.indexOf('/', start);
+                if (end < 0) {
+                    end = path.length();
+                }
+                String prefix = prefixes[i];
+                if (variables[i] < 0) {
+                    if (end - start != prefix.length() || !path.regionMatches(start, prefix, 0, prefix.length())) {
+                        return false;
+                    }
+                } else {
+                    String suffix = suffixes[i];
+                    int valueStart = start + prefix.length();
+                    int valueEnd = end - suffix.length();
+                    if (valueEnd <= valueStart
+                            || !path.regionMatches(start, prefix, 0, prefix.length())
+                            || !path.regionMatches(valueEnd, suffix, 0, suffix.length())) {
+                        return false;
+                    }
+                    if (values != null) {
+                        values[variables[i]] = path.substring(valueStart, valueEnd);
+                    }
+                }
+                start = end + 1;
+            }
+            return start == path.length() + 1;
+        }
+    }
+
+    /**
+     * Binds a single parameter.
+     */
+    private static final class Binder {
+
+        private final In in;
+        private final String name;
+        private final Style style;
+        private final boolean explode;
+        private final int shape;
+        private final int kind;
+        private final int itemKind;
+        private final Map<String, Integer> propertyKinds;
+        private final int additionalKind;
+        private final boolean closedObject;
+        private final int pathIndex;
+        private final String matrixPrefix;
+        private final String deepObjectPrefix;
+        private final String[] deepObjectKeys;
+        private final String[] propertyNames;
+
+        Binder(Parameter parameter, PathTemplate template, ReferenceIndex references) {
+            this.in = parameter.getIn();
+            this.name = parameter.getName();
+            if (in == null || name == null) {
+                throw new IllegalArgumentException("Parameter without a name or location: " + parameter);
+            }
+            this.style = parameter.getStyle() != null ? parameter.getStyle() : defaultStyle(in);
+            this.explode = parameter.getExplode() != null ? parameter.getExplode() : style == Style.FORM;
+
+            Schema schema = resolve(parameter.getSchema(), references);
+            this.shape = schema == null ? SHAPE_RAW : shapeOf(schema);
+            this.kind = kindOf(schema);
+            Schema items = shape == SHAPE_ARRAY ? resolve(schema.getItems(), references) : null;
+            this.itemKind = kindOf(items);
+            Map<String, Schema> properties = shape == SHAPE_OBJECT ? schema.getProperties() : null;
+            if (properties != null && !properties.isEmpty()) {
+                propertyKinds = new LinkedHashMap<>();
+                for (Map.Entry<String, Schema> entry : properties.entrySet()) {
+                    propertyKinds.put(entry.getKey(), kindOf(resolve(entry.getValue(), references)));
+                }
+                propertyNames = propertyKinds.keySet().toArray(new String[0]);
+            } else {
+                propertyKinds = Collections.emptyMap();
+                propertyNames = new String[0];
+            }
+            Schema additional = shape == SHAPE_OBJECT ? resolve(schema.getAdditionalPropertiesSchema(), references)
+                    : null;
+            this.additionalKind = kindOf(additional);
+            this.closedObject = additional != null && Boolean.FALSE.equals(additional.getBooleanSchema());
+
+            if (in == In.PATH) {
+                pathIndex = template.indexOf(name);
+                if (pathIndex < 0) {
+                    throw new IllegalArgumentException("Path parameter " + name + " not found in " + template.path);
+                }
+            } else {
+                pathIndex = -1;
+            }
+            matrixPrefix = ";" + name + "=";
+            deepObjectPrefix = name + "[";
+            deepObjectKeys = new String[propertyNames.length];
+            for (int i = 0; i < propertyNames.length; i++) {
+                deepObjectKeys[i] = deepObjectPrefix + propertyNames[i] + "]";
+            }
+        }
+
+        private static Style defaultStyle(In in) {
+            switch (in) {
+                case QUERY:
+                case COOKIE:
+                    return Style.FORM;
+                default:
+                    return Style.SIMPLE;
+            }
+        }
+
+        private static Schema resolve(Schema schema, ReferenceIndex references) {
+            if (schema != null && schema.getRef() != null) {
+                Schema resolved = references.resolve(schema);
+                if (resolved == null) {
+                    throw new IllegalArgumentException("Cannot resolve schema reference " + schema.getRef());
+                }
+                return resolved;
+            }
+            return schema;
+        }
+
+        private static int shapeOf(Schema schema) {
+            List<SchemaType> types = schema.getType();
+            if (types != null && types.contains(SchemaType.ARRAY) || types == null && schema.getItems() != null) {
+                return SHAPE_ARRAY;
+            }
+            if (types != null && types.contains(SchemaType.OBJECT) || types == null && schema.getProperties() != null) {
+                return SHAPE_OBJECT;
+            }
+            return SHAPE_PRIMITIVE;
+        }
+
+        private static int kindOf(Schema schema) {
+            List<SchemaType> types = schema == null ? null : schema.getType();
+            if (types == null || types.contains(SchemaType.STRING)) {
+                return KIND_STRING;
+            }
+            if (types.contains(SchemaType.INTEGER)) {
+                return KIND_INTEGER;
+            }
+            if (types.contains(SchemaType.NUMBER)) {
+                return KIND_NUMBER;
+            }
+            if (types.contains(SchemaType.BOOLEAN)) {
+                return KIND_BOOLEAN;
+            }
+            return KIND_STRING;
+        }
+
+        Object bind(Request request, String[] pathValues) {
+            switch (in) {
+                case PATH:
+                    return bindPath(pathValues[pathIndex]);
+                case QUERY:
+                    return bindQuery(request);
+                case HEADER:
+                    List<String> headers = request.getHeader(name);
+                    if (headers == null || headers.isEmpty()) {
+                        return null;
+                    }
+                    return parse(headers.size() == 1 ? headers.get(0) : String.join(",", headers), ',', explode, false);
+                case COOKIE:
+                    String cookie = request.getCookie(name);
+                    return cookie == null ? null : parse(cookie, ',', false, false);
+                default:
+                    return null;
+            }
+        }
+
+        private Object bindPath(String raw) {
+            switch (style) {
+                case LABEL:
+                    if (raw.isEmpty() || raw.charAt(0) != '.') {
+                        return shape == SHAPE_RAW ? decode(raw) : null;
+                    }
+                    return parse(raw.substring(1), explode ? '.' : ',', explode, true);
+                case MATRIX:
+                    if (shape == SHAPE_OBJECT && explode) {
+                        return raw.startsWith(";") ? parse(raw.substring(1), ';', true, true) : null;
+                    }
+                    if (!raw.startsWith(matrixPrefix)) {
+                        return null;
+                    }
+                    if (shape == SHAPE_ARRAY && explode) {
+                        List<String> parts = split(raw.substring(1), ';');
+                        List<Object> items = new ArrayList<>(parts.size());
+                        for (String part : parts) {
+                            if (part.startsWith(name) && part.length() > name.length()
+                                    && part.charAt(name.length()) == '=') {
+                                items.add(convert(decode(part.substring(name.length() + 1)), itemKind));
+                            }
+                        }
+                        return items;
+                    }
+                    return parse(raw.substring(matrixPrefix.length()), ',', false, true);
+                default:
+                    return parse(raw, ',', explode, true);
+            }
+        }
+
+        private Object bindQuery(Request request) {
+            if (style == Style.DEEPOBJECT) {
+                return bindDeepObject(request);
+            }
+            if (shape == SHAPE_OBJECT && explode) {
+                Map<String, Object> object = new LinkedHashMap<>();
+                for (String property : propertyNames) {
+                    String value = first(request.getQueryParameter(property));
+                    if (value != null) {
+                        object.put(property, convert(value, propertyKinds.get(property)));
+                    }
+                }
+                return object.isEmpty() ? null : object;
+            }
+            List<String> values = request.getQueryParameter(name);
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            if (shape == SHAPE_ARRAY && explode) {
+                List<Object> items = new ArrayList<>(values.size());
+                for (String value : values) {
+                    items.add(convert(value, itemKind));
+                }
+                return items;
+            }
+            char delimiter = style == Style.SPACEDELIMITED ? ' ' : (style == Style.PIPEDELIMITED ? '|' : ',');
+            return parse(values.get(0), delimiter, false, false);
+        }
+
+        private Object bindDeepObject(Request request) {
+            Map<String, Object> object = new LinkedHashMap<>();
+            for (int i = 0; i < deepObjectKeys.length; i++) {
+                String value = first(request.getQueryParameter(deepObjectKeys[i]));
+                if (value != null) {
+                    object.put(propertyNames[i], convert(value, propertyKinds.get(propertyNames[i])));
+                }
+            }
+            if (!closedObject) {
+                for (String key : request.getQueryParameterNames()) {
+                    if (key.startsWith(deepObjectPrefix) && key.endsWith("]")
+                            && key.length() > deepObjectPrefix.length() + 1) {
+                        String property = key.substring(deepObjectPrefix.length(), key.length() - 1);
+                        if (!propertyKinds.containsKey(property)) {
+                            object.put(property, convert(first(request.getQueryParameter(key)), additionalKind));
+                        }
+                    }
+                }
+            }
+            return object.isEmpty() ? null : object;
+        }
+
+        /**
+         * Parses a value according to the shape of the parameter.
+         *
+         * @param value
+         *            the value
+         * @param delimiter
+         *            the delimiter of array items and object members
+         * @param explode
+         *            whether object members are written as {@code name=value}, rather than {@code name,value}
+         * @param encoded
+         *            whether the value is percent-encoded
+         */
+        private Object parse(String value, char delimiter, boolean explode, boolean encoded) {
+            switch (shape) {
+                case SHAPE_ARRAY: {
+                    List<String> parts = split(value, delimiter);
+                    List<Object> items = new ArrayList<>(parts.size());
+                    for (String part : parts) {
+                        items.add(convert(encoded ? decode(part) : part, itemKind));
+                    }
+                    return items;
+                }
+                case SHAPE_OBJECT: {
+                    List<String> parts = split(value, delimiter);
+                    Map<String, Object> object = new LinkedHashMap<>();
+                    if (explode) {
+                        for (String part : parts) {
+                            int equals = part.indexOf('=');
+                            if (equals > 0) {
+                                putProperty(object, part.substring(0, equals), part.substring(equals + 1), encoded);
+                            }
+                        }
+                    } else {
+                        for (int i = 0; i + 1 < parts.size(); i += 2) {
+                            putProperty(object, parts.get(i), parts.get(i + 1), encoded);
+                        }
+                    }
+                    return object;
+                }
+                case SHAPE_PRIMITIVE:
+                    return convert(encoded ? decode(value) : value, kind);
+                default:
+                    return encoded ? decode(value) : value;
+            }
+        }
+
+        private void putProperty(Map<String, Object> object, String property, String value, boolean encoded) {
+            if (encoded) {
+                property = decode(property);
+                value = decode(value);
+            }
+            Integer propertyKind = propertyKinds.get(property);
+            object.put(property, convert(value, propertyKind == null ? additionalKind : propertyKind));
+        }
+    }
+
+    private static String first(List<String> values) {
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    private static String decode(String value) {
+        if (value.indexOf('%') < 0) {
+            return value;
+        }
+        String decoded = ComponentKey.percentDecode(value);
+        return decoded == null ? value : decoded;
+    }
+
+    private static Object convert(String value, int kind) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            switch (kind) {
+                case KIND_INTEGER:
+                    if (value.length() < 19) {
+                        return Long.valueOf(value);
+                    }
+                    BigInteger integer = new BigInteger(value);
+                    return integer.bitLength() < Long.SIZE ? (Object) integer.longValue() : integer;
+                case KIND_NUMBER:
+                    return new BigDecimal(value);
+                case KIND_BOOLEAN:
+                    if ("true".equals(value)) {
+                        return Boolean.TRUE;
+                    }
+                    return "false".equals(value) ? Boolean.FALSE : value;
+                default:
+                    return value;
+            }
+        } catch (NumberFormatException e) {
+            return value;
+        }
+    }
+
+    private static List<String> split(String value, char delimiter) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = value.indexOf(delimiter, start)) >= 0) {
+            parts.add(value.substring(start, end));
+            start = end + 1;
+        }
+        parts.add(value.substring(start));
+        return parts;
+    }
+}
@@ -0,0 +1,380 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+
+/**
+ * Routes request paths to the path items of an OpenAPI document, using a compressed radix trie of the path templates.
+ * <p>
+ * The literal parts of the templates are stored as the edges of the trie, and each path parameter, such as
+ * {@code {petId}}, as a parameter node matching the characters up to the next {@code /}. Matching a path takes time
+ * proportional to the length of the path, independently of the number of templates. As required by the OpenAPI
+ * specification, literal parts are preferred to path parameters, so that {@code /pets/mine} matches the template
+ * {@code /pets/mine} rather than {@code /pets/{petId}}.
+ * <p>
+ * The router reflects the path items at the time it was created. Instances of this class are immutable and safe for
+ * use by multiple concurrent threads.
+ *
+ * @since 4.2
+ */
+public final class PathRouter {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final PathItem.HttpMethod[] METHODS = PathItem.HttpMethod.values();
+
+    private final Node root;
+    private final int maxVariables;
+    private final int size;
+
+    private PathRouter(Node root, int maxVariables, int size) {
+        this.root = root;
+        this.maxVariables = maxVariables;
+        this.size = size;
+    }
+
+    /**
+     * Creates a router for the paths of the given OpenAPI document.
+     *
+     * @param openAPI
+     *            the OpenAPI document
+     * @return the router, which matches no path if the document has no paths
+     * @throws IllegalArgumentException
+     *             if two path templates differ only by the names of their parameters
+     */
+    public static PathRouter of(OpenAPI openAPI) {
+        return of(openAPI.getPaths());
+    }
+
+    /**
+     * Creates a router for the given paths.
+     *
+     * @param paths
+     *            the paths, may be null
+     * @return the router
+     * @throws IllegalArgumentException
+     *             if two path templates differ only by the names of their parameters
+     */
+    public static PathRouter of(Paths paths) {
+        return of(paths == null ? null : paths.getPathItems());
+    }
+
+    /**
+     * Creates a router for the given map of path items.
+     * <p>
+     * Besides the path items of a {@link Paths} element, this can be used for the {@link OpenAPI#getWebhooks()
+     * webhooks} of a document, routing webhook names to their path items.
+     *
+     * @param pathItems
+     *            the path items keyed by path template, may be null
+     * @return the router
+     * @throws IllegalArgumentException
+     *             if two path templates differ only by the names of their parameters
+     */
+    public static PathRouter of(Map<String, PathItem> pathItems) {
+        Node root = new Node("");
+        int maxVariables = 0;
+        int size = 0;
+        if (pathItems != null) {
+            for (Map.Entry<String, PathItem> entry : pathItems.entrySet()) {
+                if (entry.getKey() != null && entry.getValue() != null) {
+                    maxVariables = Math.max(maxVariables, insert(root, entry.getKey(), entry.getValue()));
+                    size++;
+                }
+            }
+        }
+        return new PathRouter(root, maxVariables, size);
+    }
+
+    /**
+     * @return the number of path templates of the router
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the path item whose template matches the given path.
+     *
+     * @param path
+     *            the path of a request relative to the server URL, not decoded
+     * @return the match, or null if no template matches the path
+     */
+    public Match match(String path) {
+        int[] bounds = maxVariables == 0 ? null : new int[maxVariables * 2];
+        Route route = find(root, path, 0, bounds, 0);
+        if (route == null) {
+            return null;
+        }
+        String[] values = new String[route.names.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = path.substring(bounds[2 * i], bounds[2 * i + 1]);
+        }
+        return new Match(route, values);
+    }
+
+    /**
+     * Finds the operation of the path item whose template matches the given path.
+     *
+     * @param path
+     *            the path of a request relative to the server URL, not decoded
+     * @param method
+     *            the HTTP method of the request
+     * @return the match, or null if no template matches the path or the path item has no operation for the method
+     */
+    public Match match(String path, PathItem.HttpMethod method) {
+        Match match = match(path);
+        return match == null || match.getOperation(method) == null ? null : match;
+    }
+
+    /**
+     * The result of matching a path.
+     */
+    public static final class Match {
+
+        private final Route route;
+        private final String[] values;
+
+        private Match(Route route, String[] values) {
+            this.route = route;
+            this.values = values;
+        }
+
+        /**
+         * @return the path template matched, for example {@code /pets/{petId}}
+         */
+        public String getTemplate() {
+            return route.template;
+        }
+
+        /**
+         * @return the path item of the template matched
+         */
+        public PathItem getPathItem() {
+            return route.pathItem;
+        }
+
+        /**
+         * @param method
+         *            an HTTP method
+         * @return the operation of the path item for the method, or null if there is none
+         */
+        public Operation getOperation(PathItem.HttpMethod method) {
+            return route.operations[method.ordinal()];
+        }
+
+        /**
+         * @param name
+         *            the name of a path parameter of the template
+         * @return the value of the parameter in the path, not decoded, or null if the template has no such parameter
+         */
+        public String getVariable(String name) {
+            String[] names = route.names;
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return an unmodifiable map of the names of the path parameters of the template to their values in the path,
+         *         not decoded
+         */
+        public Map<String, String> getVariables() {
+            Map<String, String> variables = new LinkedHashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                variables.put(route.names[i], values[i]);
+            }
+            return Collections.unmodifiableMap(variables);
+        }
+    }
+
+    private static final class Route {
+
+        private final String template;
+        private final PathItem pathItem;
+        private final String[] names;
+        private final Operation[] operations = new Operation[METHODS.length];
+
+        Route(String template, PathItem pathItem, String[] names) {
+            this.template = template;
+            this.pathItem = pathItem;
+            this.names = names;
+            Map<PathItem.HttpMethod, Operation> map = pathItem.getOperations();
+            if (map != null) {
+                for (Map.Entry<PathItem.HttpMethod, Operation> entry : map.entrySet()) {
+                    operations[entry.getKey().ordinal()] = entry.getValue();
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private Node parameter;
+        // Whether a literal child of this parameter node continues the same path segment, as in {id}.json
+        private boolean inSegmentChildren;
+        private Route route;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char c) {
+            for (Node child : children) {
+                if (child.label.charAt(0) == c) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        void addChild(Node child) {
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = child;
+        }
+
+        void replaceChild(Node oldChild, Node newChild) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == oldChild) {
+                    children[i] = newChild;
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts a template into the trie.
+     *
+     * @return the number of parameters of the template
+     */
+    private static int insert(Node root, String template, PathItem pathItem) {
+        List<String> names = new ArrayList<>();
+        Node node = root;
+        int pos = 0;
+        while (pos < template.length()) {
+            int open = template.indexOf('{', pos);
+            int close = open < 0 ? -1 : template.indexOf('}', open + 1);
+            if (open < 0 || close < 0) {
+                node = insertLiteral(node, template.substring(pos));
+                break;
+            }
+            if (open > pos) {
+                node = insertLiteral(node, template.substring(pos, open));
+            }
+            if (node.parameter == null) {
+                node.parameter = new Node("");
+            }
+            node = node.parameter;
+            names.add(template.substring(open + 1, close));
+            pos = close + 1;
+            if (pos < template.length() && template.charAt(pos) != '/') {
+                node.inSegmentChildren = true;
+            }
+        }
+        if (node.route != null) {
+            throw new IllegalArgumentException(
+                    "Path template " + template + " is equivalent to " + node.route.template);
+        }
+        node.route = new Route(template, pathItem, names.toArray(new String[0]));
+        return names.size();
+    }
+
+    private static Node insertLiteral(Node node, String literal) {
+        int pos = 0;
+        while (pos < literal.length()) {
+            Node child = node.child(literal.charAt(pos));
+            if (child == null) {
+                Node leaf = new Node(literal.substring(pos));
+                node.addChild(leaf);
+                return leaf;
+            }
+            String label = child.label;
+            int common = 0;
+            int max = Math.min(label.length(), literal.length() - pos);
+            while (common < max && label.charAt(common) == literal.charAt(pos + common)) {
+                common++;
+            }
+            if (common < label.length()) {
+                // Split the edge at the end of the common prefix
+                Node split = new Node(label.substring(0, common));
+                child.label = label.substring(common);
+                split.addChild(child);
+                node.replaceChild(child, split);
+                child = split;
+            }
+            node = child;
+            pos += common;
+        }
+        return node;
+    }
+
+    private static Route find(Node node, String path, int pos, int[] bounds, int count) {
+        int length = path.length();
+        if (pos == length && node.route != null) {
+            return node.route;
+        }
+        if (pos < length) {
+            Node child = node.child(path.charAt(pos));
+            if (child != null && path.startsWith(child.label, pos)) {
+                Route route = find(child, path, pos + child.label.length(), bounds, count);
+                if (route != null) {
+                    return route;
+                }
+            }
+            Node parameter = node.parameter;
+            if (parameter != null) {
+                int segmentEnd = path.indexOf('/', pos);
+                if (segmentEnd < 0) {
+                    segmentEnd = length;
+                }
+                if (parameter.inSegmentChildren) {
+                    // Prefer a literal continuing the segment, as in {id}.json, to a value spanning the segment
+                    for (int end = segmentEnd - 1; end > pos; end--) {
+                        Route route = findParameter(parameter, path, pos, end, bounds, count);
+                        if (route != null) {
+                            return route;
+                        }
+                    }
+                }
+                if (segmentEnd > pos) {
+                    return findParameter(parameter, path, pos, segmentEnd, bounds, count);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Route findParameter(Node parameter, String path, int start, int end, int[] bounds, int count) {
+        bounds[2 * count] = start;
+        bounds[2 * count + 1] = end;
+        return find(parameter, path, end, bounds, count + 1);
+    }
+}
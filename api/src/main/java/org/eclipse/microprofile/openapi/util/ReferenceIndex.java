@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Reference;
+
+/**
+ * An index of the entries of the Components element of an OpenAPI document, keyed by the references that identify them.
+ * <p>
+ * Building the index visits every component once. Afterwards, each call to one of the {@code resolve} methods is a
+ * single hash lookup for a reference in canonical form (see {@link ComponentKey#getRef()}). References spelled
+ * differently, for example with percent-encoded characters, are parsed once and then remembered, so that later lookups
+ * of the same reference are also a single hash lookup.
+ * <p>
+ * Resolution is a single step: if the component found is itself a reference, it is returned as is.
+ * <p>
+ * The index reflects the Components element at the time the index was created. It never becomes stale for a model that
+ * has been frozen with {@link OASFactory#freeze(org.eclipse.microprofile.openapi.models.Constructible)}. When a mutable
+ * model is modified, a new index must be created to observe the changes.
+ * <p>
+ * Instances of this class are safe for use by multiple concurrent threads.
+ *
+ * @since 4.2
+ */
+public final class ReferenceIndex {
+
+    private static final ReferenceIndex EMPTY = new ReferenceIndex(Collections.emptyMap());
+
+    private final Map<ComponentKey, Object> components;
+    private final Map<String, ComponentKey> keys;
+    private final ConcurrentMap<String, ComponentKey> aliases = new ConcurrentHashMap<>();
+
+    private ReferenceIndex(Map<ComponentKey, Object> components) {
+        this.components = components;
+        Map<String, ComponentKey> keys = new HashMap<>(capacity(components.size()));
+        for (ComponentKey key : components.keySet()) {
+            keys.put(key.getRef(), key);
+        }
+        this.keys = keys;
+    }
+
+    /**
+     * Creates an index of the components of the given OpenAPI document.
+     *
+     * @param openAPI
+     *            the OpenAPI document
+     * @return the index, which is empty if the document has no Components element
+     */
+    public static ReferenceIndex of(OpenAPI openAPI) {
+        return of(openAPI.getComponents());
+    }
+
+    /**
+     * Creates an index of the given Components element.
+     *
+     * @param components
+     *            the Components element, may be null
+     * @return the index, which is empty if the Components element is null or has no entries
+     */
+    public static ReferenceIndex of(Components components) {
+        if (components == null) {
+            return EMPTY;
+        }
+        Map<ComponentKey, Object> entries = new HashMap<>();
+        for (ComponentType type : ComponentType.values()) {
+            Map<String, ?> section = type.getEntries(components);
+            if (section == null) {
+                continue;
+            }
+            for (Map.Entry<String, ?> entry : section.entrySet()) {
+                if (entry.getKey() != null && entry.getValue() != null) {
+                    entries.put(ComponentKey.of(type, entry.getKey()), entry.getValue());
+                }
+            }
+        }
+        return entries.isEmpty() ? EMPTY : new ReferenceIndex(entries);
+    }
+
+    /**
+     * Returns the key of the component identified by the given reference.
+     * <p>
+     * The key returned is the same instance for all the spellings of a reference to the same component, and for the key
+     * used by the index itself.
+     *
+     * @param ref
+     *            the reference, for example {@code #/components/schemas/Pet}
+     * @return the key of the component, or null if the index contains no component for the reference
+     */
+    public ComponentKey keyOf(String ref) {
+        if (ref == null) {
+            return null;
+        }
+        ComponentKey key = keys.get(ref);
+        if (key == null) {
+            key = aliases.get(ref);
+        }
+        if (key == null) {
+            ComponentKey parsed = ComponentKey.parse(ref);
+            if (parsed == null) {
+                return null;
+            }
+            key = keys.get(parsed.getRef());
+            if (key != null) {
+                aliases.putIfAbsent(ref, key);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Returns the component identified by the given reference.
+     *
+     * @param ref
+     *            the reference, for example {@code #/components/schemas/Pet}
+     * @return the component, or null if the index contains no component for the reference
+     */
+    public Object resolve(String ref) {
+        ComponentKey key = keyOf(ref);
+        return key == null ? null : components.get(key);
+    }
+
+    /**
+     * Returns the component of the given type identified by the given reference.
+     *
+     * @param <T>
+     *            the type of the component
+     * @param ref
+     *            the reference, for example {@code #/components/schemas/Pet}
+     * @param type
+     *            the model interface of the component, for example {@code Schema.class}
+     * @return the component, or null if the index contains no component of the given type for the reference
+     */
+    public <T> T resolve(String ref, Class<T> type) {
+        Object component = resolve(ref);
+        return type.isInstance(component) ? type.cast(component) : null;
+    }
+
+    /**
+     * Returns the component that the given model element refers to.
+     *
+     * @param <T>
+     *            the type of the model element
+     * @param reference
+     *            a model element, which refers to a component with {@link Reference#getRef()}
+     * @return the component, or null if the model element has no reference or the index contains no component of the
+     *         same type for the reference
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Reference<T>> T resolve(T reference) {
+        ComponentKey key = keyOf(reference.getRef());
+        if (key == null || !key.getType().getModelType().isInstance(reference)) {
+            return null;
+        }
+        return (T) components.get(key);
+    }
+
+    /**
+     * Returns whether the index contains a component for the given reference.
+     *
+     * @param ref
+     *            the reference, for example {@code #/components/schemas/Pet}
+     * @return true if the index contains a component for the reference
+     */
+    public boolean contains(String ref) {
+        return keyOf(ref) != null;
+    }
+
+    /**
+     * @return an unmodifiable set of the keys of all the components in the index
+     */
+    public Set<ComponentKey> keys() {
+        return Collections.unmodifiableSet(components.keySet());
+    }
+
+    /**
+     * @return the number of components in the index
+     */
+    public int size() {
+        return components.size();
+    }
+
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+}
@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+
+/**
+ * Decides which classes are scanned for annotations, according to the {@link OASConfig#SCAN_PACKAGES},
+ * {@link OASConfig#SCAN_CLASSES}, {@link OASConfig#SCAN_EXCLUDE_PACKAGES} and {@link OASConfig#SCAN_EXCLUDE_CLASSES}
+ * configuration properties. A class is scanned if:
+ * <ol>
+ * <li>it is not listed in the excluded classes, and</li>
+ * <li>it is listed in the classes, or</li>
+ * <li>the most specific of its package and parent packages listed in the packages or excluded packages is listed in the
+ * packages, and not in the excluded packages, or</li>
+ * <li>neither its package nor a parent package is listed in the excluded packages, and the classes and packages are
+ * both empty.</li>
+ * </ol>
+ * <p>
+ * The listed classes are kept in hash sets and the listed packages in a tree of package name segments, built once, so
+ * that {@link #test(String)} decides in time proportional to the depth of the package of the class, without
+ * allocating.
+ * <p>
+ * Instances of this class are immutable and safe for use by multiple concurrent threads.
+ *
+ * @since 4.2
+ */
+public final class ScanFilter implements Predicate<String> {
+
+    private static final byte NONE = 0;
+    private static final byte INCLUDE = 1;
+    private static final byte EXCLUDE = 2;
+
+    private final Set<String> classes;
+    private final Set<String> excludeClasses;
+    private final Node packages;
+    private final boolean scanAll;
+
+    private ScanFilter(Set<String> classes, Set<String> excludeClasses, Node packages, boolean scanAll) {
+        this.classes = classes;
+        this.excludeClasses = excludeClasses;
+        this.packages = packages;
+        this.scanAll = scanAll;
+    }
+
+    /**
+     * Creates a filter from the given lists of packages and classes. Blank names are ignored, and names are trimmed.
+     *
+     * @param packages
+     *            the packages to scan, may be null
+     * @param classes
+     *            the classes to scan, may be null
+     * @param excludePackages
+     *            the packages to exclude from scans, may be null
+     * @param excludeClasses
+     *            the classes to exclude from scans, may be null
+     * @return the filter
+     */
+    public static ScanFilter of(Collection<String> packages, Collection<String> classes,
+            Collection<String> excludePackages, Collection<String> excludeClasses) {
+        Set<String> classSet = names(classes);
+        Set<String> packageSet = names(packages);
+        Builder root = new Builder(null);
+        for (String name : packageSet) {
+            root.add(name).mark |= INCLUDE;
+        }
+        for (String name : names(excludePackages)) {
+            root.add(name).mark |= EXCLUDE;
+        }
+        return new ScanFilter(classSet, names(excludeClasses), root.build(),
+                classSet.isEmpty() && packageSet.isEmpty());
+    }
+
+    /**
+     * Creates a filter from configuration properties. The values of the properties are comma-separated lists.
+     *
+     * @param config
+     *            returns the value of the configuration property with the given name, or null if it is not set
+     * @return the filter
+     */
+    public static ScanFilter of(Function<String, String> config) {
+        return of(split(config.apply(OASConfig.SCAN_PACKAGES)), split(config.apply(OASConfig.SCAN_CLASSES)),
+                split(config.apply(OASConfig.SCAN_EXCLUDE_PACKAGES)),
+                split(config.apply(OASConfig.SCAN_EXCLUDE_CLASSES)));
+    }
+
+    /**
+     * Checks whether the class with the given name is scanned.
+     *
+     * @param className
+     *            the fully qualified name of a class
+     * @return true if the class is scanned, otherwise false
+     */
+    @Override
+    public boolean test(String className) {
+        if (excludeClasses.contains(className)) {
+            return false;
+        }
+        if (classes.contains(className)) {
+            return true;
+        }
+        int mark = NONE;
+        int end = className.lastIndexOf('.');
+        int start = 0;
+        Node node = packages;
+        while (node != null && start < end) {
+            int dot = className.indexOf('.', start);
+            node = node.child(className, start, dot - start);
+            if (node != null && node.mark != NONE) {
+                mark = node.mark;
+            }
+            start = dot + 1;
+        }
+        if (mark != NONE) {
+            return mark == INCLUDE;
+        }
+        return scanAll;
+    }
+
+    private static Set<String> names(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> result = new HashSet<>();
+        for (String name : names) {
+            if (name != null && !name.trim().isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    private static List<String> split(String value) {
+        return value == null ? Collections.emptyList() : Arrays.asList(value.split(","));
+    }
+
+    /**
+     * A package name segment.
+     */
+    private static final class Node {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String segment;
+        private final byte mark;
+        private final Node[] children;
+
+        Node(String segment, byte mark, Node[] children) {
+            this.segment = segment;
+            this.mark = mark;
+            this.children = children;
+        }
+
+        Node child(String name, int start, int length) {
+            for (Node child : children) {
+                if (child.segment.length() == length && name.regionMatches(start, child.segment, 0, length)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Builder {
+
+        private final String segment;
+        private final List<Builder> children = new ArrayList<>();
+        private byte mark;
+
+        Builder(String segment) {
+            this.segment = segment;
+        }
+
+        Builder add(String packageName) {
+            Builder node = this;
+            for (String part : packageName.split("\\.")) {
+                Builder child = null;
+                for (Builder candidate : node.children) {
+                    if (candidate.segment.equals(part)) {
+                        child = candidate;
+                        break;
+                    }
+                }
+                if (child == null) {
+                    child = new Builder(part);
+                    node.children.add(child);
+                }
+                node = child;
+            }
+            return node;
+        }
+
+        Node build() {
+            Node[] nodes = children.isEmpty() ? Node.NO_CHILDREN : new Node[children.size()];
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = children.get(i).build();
+            }
+            // A node marked both included and excluded is excluded
+            return new Node(segment, (mark & EXCLUDE) != 0 ? EXCLUDE : mark, nodes);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+/**
+ * Creates dereferenced views of schemas, in which the references to the schemas of the Components element are replaced
+ * by the schemas they refer to.
+ * <p>
+ * The dereferenced view of each schema component is computed once and shared by all the places it is referred from.
+ * Schemas that contain no reference to replace are not copied: the view shares them with the original model. The model
+ * given to the dereferencer is never modified, so each dereferenced view is linear in time and memory in the size of
+ * the schemas it is created from.
+ * <p>
+ * A reference to a schema component whose view is being created, such as the reference from {@code Flight} back to
+ * {@code Booking} in a {@code Booking -> Flight -> Booking} cycle, is kept as a schema with only a {@code $ref}
+ * property. These back-references are the only references remaining in a dereferenced view, other than references that
+ * cannot be resolved by the {@link ReferenceIndex} of the dereferencer.
+ * <p>
+ * A reference with sibling properties is replaced by a schema with the sibling properties and the view of the schema
+ * referred to added to its {@code allOf} list, which applies the same constraints.
+ * <p>
+ * Instances of this class are not safe for use by multiple concurrent threads.
+ *
+ * @since 4.2
+ */
+public final class SchemaDereferencer {
+
+    private static final String REF = "$ref";
+    private static final String ALL_OF = "allOf";
+
+    private final ReferenceIndex references;
+    private final Map<Schema, Schema> views = new IdentityHashMap<>();
+    private final Map<ComponentKey, Schema> componentViews = new HashMap<>();
+    private final Map<ComponentKey, Schema> backReferences = new HashMap<>();
+    private final Set<ComponentKey> inProgress = new HashSet<>();
+    private final Set<Schema> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private SchemaDereferencer(ReferenceIndex references) {
+        this.references = references;
+    }
+
+    /**
+     * Creates a dereferencer resolving references to the schemas of the given OpenAPI document.
+     *
+     * @param openAPI
+     *            the OpenAPI document
+     * @return the dereferencer
+     */
+    public static SchemaDereferencer of(OpenAPI openAPI) {
+        return new SchemaDereferencer(ReferenceIndex.of(openAPI));
+    }
+
+    /**
+     * Creates a dereferencer resolving references with the given index.
+     *
+     * @param references
+     *            the index of the components of an OpenAPI document
+     * @return the dereferencer
+     */
+    public static SchemaDereferencer of(ReferenceIndex references) {
+        return new SchemaDereferencer(references);
+    }
+
+    /**
+     * Returns the dereferenced view of the given schema.
+     * <p>
+     * Calling this method again with the same schema instance returns the same view.
+     *
+     * @param schema
+     *            the schema to dereference, may be null
+     * @return the dereferenced view, which is the given schema if it contains no reference to replace
+     */
+    public Schema dereference(Schema schema) {
+        if (schema == null) {
+            return null;
+        }
+        Schema view = views.get(schema);
+        if (view != null) {
+            return view;
+        }
+        if (!visiting.add(schema)) {
+            // A cycle of Java references in the model, not expressed with $ref
+            return schema;
+        }
+        try {
+            view = createView(schema);
+        } finally {
+            visiting.remove(schema);
+        }
+        views.put(schema, view);
+        return view;
+    }
+
+    /**
+     * Returns the dereferenced view of the schema component with the given key.
+     *
+     * @param key
+     *            the key of a schema component
+     * @return the dereferenced view, or null if the dereferencer's index contains no schema with the given key
+     */
+    public Schema dereference(ComponentKey key) {
+        Schema view = componentViews.get(key);
+        if (view != null) {
+            return view;
+        }
+        Schema schema = references.resolve(key.getRef(), Schema.class);
+        if (schema == null) {
+            return null;
+        }
+        if (!inProgress.add(key)) {
+            return backReferences.computeIfAbsent(key, k -> OASFactory.createSchema().ref(k.getRef()));
+        }
+        try {
+            view = dereference(schema);
+        } finally {
+            inProgress.remove(key);
+        }
+        componentViews.put(key, view);
+        return view;
+    }
+
+    private Schema createView(Schema schema) {
+        Map<String, ?> properties = schema.getAll();
+        Schema target = null;
+        String ref = schema.getRef();
+        if (ref != null) {
+            ComponentKey key = references.keyOf(ref);
+            if (key != null && key.getType() == ComponentType.SCHEMAS) {
+                target = dereference(key);
+                if (properties.size() == 1) {
+                    return target;
+                }
+            }
+        }
+        Map<String, Object> viewProperties = null;
+        for (Map.Entry<String, ?> entry : properties.entrySet()) {
+            Object value = entry.getValue();
+            Object viewValue = viewOf(value);
+            if (viewValue != value) {
+                if (viewProperties == null) {
+                    viewProperties = new LinkedHashMap<>(properties);
+                }
+                viewProperties.put(entry.getKey(), viewValue);
+            }
+        }
+        if (target != null) {
+            if (viewProperties == null) {
+                viewProperties = new LinkedHashMap<>(properties);
+            }
+            viewProperties.remove(REF);
+            List<Object> allOf = new ArrayList<>();
+            Object existing = viewProperties.get(ALL_OF);
+            if (existing instanceof List) {
+                allOf.addAll((List<?>) existing);
+            }
+            allOf.add(target);
+            viewProperties.put(ALL_OF, allOf);
+        }
+        if (viewProperties == null) {
+            return schema;
+        }
+        Schema view = OASFactory.createSchema();
+        view.setAll(viewProperties);
+        return view;
+    }
+
+    private Object viewOf(Object value) {
+        if (value instanceof Schema) {
+            return dereference((Schema) value);
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> viewList = null;
+            for (int i = 0; i < list.size(); i++) {
+                Object item = list.get(i);
+                Object viewItem = item instanceof Schema ? dereference((Schema) item) : item;
+                if (viewItem != item && viewList == null) {
+                    viewList = new ArrayList<>(list);
+                }
+                if (viewList != null) {
+                    viewList.set(i, viewItem);
+                }
+            }
+            return viewList == null ? value : viewList;
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> viewMap = null;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object item = entry.getValue();
+                Object viewItem = item instanceof Schema ? dereference((Schema) item) : item;
+                if (viewItem != item) {
+                    if (viewMap == null) {
+                        viewMap = new LinkedHashMap<>(map);
+                    }
+                    viewMap.put(entry.getKey(), viewItem);
+                }
+            }
+            return viewMap == null ? value : viewMap;
+        }
+        return value;
+    }
+}
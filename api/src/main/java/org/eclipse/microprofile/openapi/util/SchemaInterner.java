@@ -0,0 +1,307 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+/**
+ * Canonicalizes structurally equal schemas into a single shared, frozen instance.
+ * <p>
+ * Annotation scanning and document readers often produce many schemas with the same properties, such as
+ * <code>{type: string, format: date-time}</code> for every timestamp field. Passing each schema to
+ * {@link #intern(Schema)} and keeping the result instead stores each distinct subtree once. Subtrees are interned
+ * bottom-up, so two schemas that differ in a single property still share all of their equal nested schemas.
+ * <p>
+ * The instances returned are frozen with
+ * {@link OASFactory#freeze(org.eclipse.microprofile.openapi.models.Constructible) OASFactory.freeze}, since a shared
+ * schema must not be modified through one of its uses. A schema given to this class which is already frozen and whose
+ * nested schemas are already canonical is itself used as the canonical instance. Freezing a model which contains
+ * interned schemas does not copy them, so they remain shared.
+ * <p>
+ * Two schemas are structurally equal, as defined by {@link #structurallyEquals(Schema, Schema)}, if they have the same
+ * {@linkplain Schema#getBooleanSchema() boolean schema} value and the maps returned by {@link Schema#getAll()} contain
+ * the same property names with structurally equal values. Schema values are compared
+ * structurally, lists and maps element by element, and all other values, including model elements other than schemas,
+ * with their {@code equals} method. As for JSON objects, the order of the properties of a schema is not significant.
+ * <p>
+ * The schemas given to this class must not contain cycles of Java references; cycles expressed with {@code $ref} are
+ * supported, as references are compared as strings.
+ * <p>
+ * The interner only references the canonical instances. A schema given to {@link #intern(Schema)} which is not itself
+ * canonical is looked up by its current properties on each call, so it may be garbage collected once the caller no
+ * longer uses it, and changes made to it after it was interned are taken into account by later calls.
+ * <p>
+ * Instances of this class are not safe for use by multiple concurrent threads.
+ *
+ * @since 4.2
+ */
+public final class SchemaInterner {
+
+    private final Map<Key, Schema> canonical = new HashMap<>();
+    private final Set<Schema> canonicalInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Schema> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private SchemaInterner() {
+    }
+
+    /**
+     * Creates an interner holding no schema.
+     *
+     * @return the new interner
+     */
+    public static SchemaInterner create() {
+        return new SchemaInterner();
+    }
+
+    /**
+     * Returns the canonical instance of the given schema.
+     * <p>
+     * Calling this method with schemas which are structurally equal to each other, or with the canonical instance
+     * itself, returns the same instance.
+     *
+     * @param schema
+     *            the schema, may be null
+     * @return a frozen schema structurally equal to the given schema, or null if the given schema is null
+     * @throws IllegalArgumentException
+     *             if the schema contains a cycle of Java references
+     */
+    public Schema intern(Schema schema) {
+        if (schema == null) {
+            return null;
+        }
+        if (canonicalInstances.contains(schema)) {
+            return schema;
+        }
+        if (!visiting.add(schema)) {
+            throw new IllegalArgumentException("The schema contains a cycle of Java references");
+        }
+        Schema result;
+        try {
+            result = canonicalOf(schema);
+        } finally {
+            visiting.remove(schema);
+        }
+        canonicalInstances.add(result);
+        return result;
+    }
+
+    /**
+     * Returns the number of distinct schemas held by this interner.
+     *
+     * @return the number of canonical schemas
+     */
+    public int size() {
+        return canonical.size();
+    }
+
+    /**
+     * Checks whether two schemas are structurally equal, as described in the
+     * {@link SchemaInterner class documentation}.
+     *
+     * @param a
+     *            a schema, may be null
+     * @param b
+     *            another schema, may be null
+     * @return true if both schemas are null or structurally equal, otherwise false
+     */
+    public static boolean structurallyEquals(Schema a, Schema b) {
+        return equal(a, b, true);
+    }
+
+    /**
+     * Returns a hash code for a schema which is consistent with {@link #structurallyEquals(Schema, Schema)}.
+     *
+     * @param schema
+     *            the schema, may be null
+     * @return the structural hash code of the schema, or 0 if the schema is null
+     */
+    public static int structuralHashCode(Schema schema) {
+        return hash(schema, true);
+    }
+
+    private Schema canonicalOf(Schema schema) {
+        Map<String, ?> properties = schema.getAll();
+        Map<String, Object> canonicalProperties = new LinkedHashMap<>(properties.size() * 4 / 3 + 1);
+        boolean changed = false;
+        for (Map.Entry<String, ?> entry : properties.entrySet()) {
+            Object value = entry.getValue();
+            Object canonicalValue = internValue(value);
+            changed |= canonicalValue != value;
+            canonicalProperties.put(entry.getKey(), canonicalValue);
+        }
+        // Nested schemas are canonical, so they are compared by identity
+        Key key = new Key(schema.getBooleanSchema(), canonicalProperties);
+        Schema result = canonical.get(key);
+        if (result == null) {
+            if (!changed && OASFactory.isFrozen(schema)) {
+                result = schema;
+            } else {
+                Schema copy = OASFactory.createSchema();
+                copy.setAll(canonicalProperties);
+                copy.setBooleanSchema(schema.getBooleanSchema());
+                result = OASFactory.freeze(copy);
+            }
+            canonical.put(key, result);
+        }
+        return result;
+    }
+
+    private Object internValue(Object value) {
+        if (value instanceof Schema) {
+            return intern((Schema) value);
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> canonicalList = null;
+            for (int i = 0; i < list.size(); i++) {
+                Object item = list.get(i);
+                Object canonicalItem = internValue(item);
+                if (canonicalItem != item && canonicalList == null) {
+                    canonicalList = new ArrayList<>(list);
+                }
+                if (canonicalList != null) {
+                    canonicalList.set(i, canonicalItem);
+                }
+            }
+            return canonicalList == null ? value : canonicalList;
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> canonicalMap = null;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object item = entry.getValue();
+                Object canonicalItem = internValue(item);
+                if (canonicalItem != item) {
+                    if (canonicalMap == null) {
+                        canonicalMap = new LinkedHashMap<>(map);
+                    }
+                    canonicalMap.put(entry.getKey(), canonicalItem);
+                }
+            }
+            return canonicalMap == null ? value : canonicalMap;
+        }
+        return value;
+    }
+
+    private static boolean equal(Object a, Object b, boolean deep) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        if (a instanceof Schema) {
+            return deep && b instanceof Schema
+                    && Objects.equals(((Schema) a).getBooleanSchema(), ((Schema) b).getBooleanSchema())
+                    && equal(((Schema) a).getAll(), ((Schema) b).getAll(), true);
+        }
+        if (a instanceof List) {
+            if (!(b instanceof List) || ((List<?>) a).size() != ((List<?>) b).size()) {
+                return false;
+            }
+            Iterator<?> i = ((List<?>) a).iterator();
+            Iterator<?> j = ((List<?>) b).iterator();
+            while (i.hasNext()) {
+                if (!equal(i.next(), j.next(), deep)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (a instanceof Map) {
+            if (!(b instanceof Map) || ((Map<?, ?>) a).size() != ((Map<?, ?>) b).size()) {
+                return false;
+            }
+            Map<?, ?> other = (Map<?, ?>) b;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) a).entrySet()) {
+                Object value = other.get(entry.getKey());
+                if (value == null && !other.containsKey(entry.getKey()) || !equal(entry.getValue(), value, deep)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return a.equals(b);
+    }
+
+    private static int hash(Object value, boolean deep) {
+        if (value instanceof Schema) {
+            if (!deep) {
+                return System.identityHashCode(value);
+            }
+            Schema schema = (Schema) value;
+            return 31 * Objects.hashCode(schema.getBooleanSchema()) + hash(schema.getAll(), true);
+        }
+        if (value instanceof List) {
+            int h = 1;
+            for (Object item : (List<?>) value) {
+                h = 31 * h + hash(item, deep);
+            }
+            return h;
+        }
+        if (value instanceof Map) {
+            int h = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                h += Objects.hashCode(entry.getKey()) ^ hash(entry.getValue(), deep);
+            }
+            return h;
+        }
+        return Objects.hashCode(value);
+    }
+
+    /**
+     * The boolean schema value and properties of a schema whose nested schemas are canonical.
+     */
+    private static final class Key {
+
+        private final Boolean booleanSchema;
+        private final Map<String, Object> properties;
+        private final int hash;
+
+        Key(Boolean booleanSchema, Map<String, Object> properties) {
+            this.booleanSchema = booleanSchema;
+            this.properties = properties;
+            this.hash = 31 * Objects.hashCode(booleanSchema) + SchemaInterner.hash(properties, false);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash && Objects.equals(booleanSchema, other.booleanSchema)
+                    && SchemaInterner.equal(properties, other.properties, false);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
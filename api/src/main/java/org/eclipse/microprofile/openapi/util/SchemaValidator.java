@@ -0,0 +1,1054 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+
+/**
+ * A validator of instances against a schema, compiled once from the {@link Schema} model.
+ * <p>
+ * Compilation converts the schema into an immutable tree of validation nodes: patterns are compiled once, numeric
+ * bounds that can be compared exactly as a {@code long} or a {@code double} are converted, and the {@code required}
+ * property names are mapped to bits checked during the single pass over the properties of an object. Validating an
+ * instance of a scalar type, or an object or array whose members are scalars, does not allocate memory other than
+ * the iterators of the instance's collections, except for {@code multipleOf} with non-integer values and for
+ * {@code uniqueItems}.
+ * <p>
+ * Instances are represented with the following Java types, as created by most JSON parsers:
+ * <ul>
+ * <li>{@code null}, for a JSON {@code null}</li>
+ * <li>{@code Boolean}</li>
+ * <li>{@code Integer}, {@code Long}, {@code Short}, {@code Byte}, {@code BigInteger}, {@code Float}, {@code Double} or
+ * {@code BigDecimal}, for a JSON number. A {@code Float} or {@code Double} stands for the decimal number of its
+ * shortest string representation, as returned by {@link Double#toString(double)}, so that {@code 0.1d} equals a
+ * {@code maximum} of {@code 0.1}</li>
+ * <li>{@code String}</li>
+ * <li>{@code List}, for a JSON array</li>
+ * <li>{@code Map} with {@code String} keys, for a JSON object</li>
+ * </ul>
+ * <p>
+ * All the keywords of the JSON Schema 2020-12 validation and applicator vocabularies are supported, as well as
+ * {@code unevaluatedItems} and {@code unevaluatedProperties}. References to the schemas of the Components element are
+ * followed using a {@link ReferenceIndex}. The {@code format} keyword is treated as an annotation, and patterns are
+ * evaluated with {@link java.util.regex}, which supports the syntax commonly used in OpenAPI documents.
+ * <p>
+ * Instances of this class are safe for use by multiple concurrent threads.
+ *
+ * @since 4.2
+ */
+public final class SchemaValidator {
+
+    private static final int TYPE_NULL = 1;
+    private static final int TYPE_BOOLEAN = 1 << 1;
+    private static final int TYPE_OBJECT = 1 << 2;
+    private static final int TYPE_ARRAY = 1 << 3;
+    private static final int TYPE_NUMBER = 1 << 4;
+    private static final int TYPE_STRING = 1 << 5;
+    private static final int TYPE_INTEGER = 1 << 6;
+    private static final int TYPE_UNKNOWN = 1 << 7;
+
+    private static final int UNIQUE_ITEMS_PAIRWISE_LIMIT = 16;
+    private static final double TWO_POW_53 = 0x1p53;
+
+    private final Node root;
+
+    private SchemaValidator(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles a validator for the given schema, which must not contain references.
+     *
+     * @param schema
+     *            the schema
+     * @return the validator
+     * @throws IllegalArgumentException
+     *             if the schema contains a reference, or an invalid pattern
+     */
+    public static SchemaValidator compile(Schema schema) {
+        return compile(schema, ReferenceIndex.of((Components) null));
+    }
+
+    /**
+     * Compiles a validator for the given schema, resolving its references with the given index.
+     *
+     * @param schema
+     *            the schema
+     * @param references
+     *            the index of the components the schema may refer to
+     * @return the validator
+     * @throws IllegalArgumentException
+     *             if the schema contains a reference that cannot be resolved, or an invalid pattern
+     */
+    public static SchemaValidator compile(Schema schema, ReferenceIndex references) {
+        return new SchemaValidator(new Compiler(references).compile(Objects.requireNonNull(schema, "schema")));
+    }
+
+    /**
+     * Returns whether the given instance is valid against the schema of this validator.
+     *
+     * @param instance
+     *            the instance, as described in the {@link SchemaValidator class documentation}
+     * @return true if the instance is valid
+     */
+    public boolean isValid(Object instance) {
+        return root.valid(instance);
+    }
+
+    private static final class Compiler {
+
+        private final ReferenceIndex references;
+        private final Map<ComponentKey, Node> components = new HashMap<>();
+
+        Compiler(ReferenceIndex references) {
+            this.references = references;
+        }
+
+        Node compile(Schema schema) {
+            Node node = new Node();
+            compileInto(node, schema);
+            return node;
+        }
+
+        private Node[] compile(List<Schema> schemas) {
+            if (schemas == null || schemas.isEmpty()) {
+                return null;
+            }
+            Node[] nodes = new Node[schemas.size()];
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = compileNullable(schemas.get(i));
+            }
+            return nodes;
+        }
+
+        private Node compileNullable(Schema schema) {
+            return schema == null ? null : compile(schema);
+        }
+
+        private Node component(String ref) {
+            ComponentKey key = references.keyOf(ref);
+            Schema schema = key == null ? null : references.resolve(ref, Schema.class);
+            if (schema == null) {
+                throw new IllegalArgumentException("Cannot resolve schema reference " + ref);
+            }
+            Node node = components.get(key);
+            if (node == null) {
+                // Registered before compiling, so that recursive references reuse the node
+                node = new Node();
+                components.put(key, node);
+                compileInto(node, schema);
+            }
+            return node;
+        }
+
+        private void compileInto(Node node, Schema schema) {
+            Boolean booleanSchema = schema.getBooleanSchema();
+            if (booleanSchema != null) {
+                node.alwaysFalse = !booleanSchema;
+                return;
+            }
+            if (schema.getRef() != null) {
+                node.ref = component(schema.getRef());
+            }
+
+            List<SchemaType> types = schema.getType();
+            if (types != null && !types.isEmpty()) {
+                int mask = 0;
+                for (SchemaType type : types) {
+                    mask |= typeMask(type);
+                }
+                node.types = mask;
+            }
+            List<Object> enumeration = schema.getEnumeration();
+            if (enumeration != null) {
+                node.enumeration = enumeration.toArray();
+            }
+            Map<String, ?> all = schema.getAll();
+            if (all.containsKey("const")) {
+                node.hasConst = true;
+                node.constValue = schema.getConstValue();
+            }
+
+            node.maximum = Bound.of(schema.getMaximum(), true, false);
+            node.exclusiveMaximum = Bound.of(schema.getExclusiveMaximum(), true, true);
+            node.minimum = Bound.of(schema.getMinimum(), false, false);
+            node.exclusiveMinimum = Bound.of(schema.getExclusiveMinimum(), false, true);
+            BigDecimal multipleOf = schema.getMultipleOf();
+            if (multipleOf != null) {
+                node.multipleOf = multipleOf;
+                node.longMultipleOf = exactLong(multipleOf);
+            }
+
+            node.minLength = intValue(schema.getMinLength(), -1);
+            node.maxLength = intValue(schema.getMaxLength(), -1);
+            if (schema.getPattern() != null) {
+                node.pattern = Regex.of(schema.getPattern());
+            }
+
+            node.minItems = intValue(schema.getMinItems(), -1);
+            node.maxItems = intValue(schema.getMaxItems(), -1);
+            node.uniqueItems = Boolean.TRUE.equals(schema.getUniqueItems());
+            node.prefixItems = compile(schema.getPrefixItems());
+            node.items = compileNullable(schema.getItems());
+            node.contains = compileNullable(schema.getContains());
+            node.minContains = intValue(schema.getMinContains(), 1);
+            node.maxContains = intValue(schema.getMaxContains(), -1);
+            node.unevaluatedItems = compileNullable(schema.getUnevaluatedItems());
+
+            node.minProperties = intValue(schema.getMinProperties(), -1);
+            node.maxProperties = intValue(schema.getMaxProperties(), -1);
+            compileProperties(node, schema.getProperties(), schema.getRequired());
+            Map<String, Schema> patternProperties = schema.getPatternProperties();
+            if (patternProperties != null && !patternProperties.isEmpty()) {
+                node.patterns = new Regex[patternProperties.size()];
+                node.patternNodes = new Node[patternProperties.size()];
+                int i = 0;
+                for (Map.Entry<String, Schema> entry : patternProperties.entrySet()) {
+                    node.patterns[i] = Regex.of(entry.getKey());
+                    node.patternNodes[i++] = compileNullable(entry.getValue());
+                }
+            }
+            node.additionalProperties = compileNullable(schema.getAdditionalPropertiesSchema());
+            node.propertyNames = compileNullable(schema.getPropertyNames());
+            Map<String, List<String>> dependentRequired = schema.getDependentRequired();
+            if (dependentRequired != null && !dependentRequired.isEmpty()) {
+                node.dependentRequiredKeys = new String[dependentRequired.size()];
+                node.dependentRequired = new String[dependentRequired.size()][];
+                int i = 0;
+                for (Map.Entry<String, List<String>> entry : dependentRequired.entrySet()) {
+                    node.dependentRequiredKeys[i] = entry.getKey();
+                    node.dependentRequired[i++] = entry.getValue() == null
+                            ? new String[0]
+                            : entry.getValue().toArray(new String[0]);
+                }
+            }
+            Map<String, Schema> dependentSchemas = schema.getDependentSchemas();
+            if (dependentSchemas != null && !dependentSchemas.isEmpty()) {
+                node.dependentSchemaKeys = new String[dependentSchemas.size()];
+                node.dependentSchemas = new Node[dependentSchemas.size()];
+                int i = 0;
+                for (Map.Entry<String, Schema> entry : dependentSchemas.entrySet()) {
+                    node.dependentSchemaKeys[i] = entry.getKey();
+                    node.dependentSchemas[i++] = compileNullable(entry.getValue());
+                }
+            }
+            node.unevaluatedProperties = compileNullable(schema.getUnevaluatedProperties());
+
+            node.allOf = compile(schema.getAllOf());
+            node.anyOf = compile(schema.getAnyOf());
+            node.oneOf = compile(schema.getOneOf());
+            node.not = compileNullable(schema.getNot());
+            node.ifNode = compileNullable(schema.getIfSchema());
+            if (node.ifNode != null) {
+                node.thenNode = compileNullable(schema.getThenSchema());
+                node.elseNode = compileNullable(schema.getElseSchema());
+            }
+        }
+
+        private void compileProperties(Node node, Map<String, Schema> properties, List<String> required) {
+            Map<String, Integer> slots = new HashMap<>();
+            if (properties != null) {
+                for (String name : properties.keySet()) {
+                    slots.putIfAbsent(name, slots.size());
+                }
+            }
+            if (required != null) {
+                for (String name : required) {
+                    slots.putIfAbsent(name, slots.size());
+                }
+            }
+            if (slots.isEmpty()) {
+                return;
+            }
+            node.slots = slots;
+            node.propertyNodes = new Node[slots.size()];
+            if (properties != null) {
+                for (Map.Entry<String, Schema> entry : properties.entrySet()) {
+                    node.propertyNodes[slots.get(entry.getKey())] = compileNullable(entry.getValue());
+                }
+            }
+            if (required != null && !required.isEmpty()) {
+                if (slots.size() <= Long.SIZE) {
+                    long mask = 0;
+                    for (String name : required) {
+                        mask |= 1L << slots.get(name);
+                    }
+                    node.requiredMask = mask;
+                } else {
+                    node.required = required.toArray(new String[0]);
+                }
+            }
+        }
+
+        private static int typeMask(SchemaType type) {
+            switch (type) {
+                case NULL:
+                    return TYPE_NULL;
+                case BOOLEAN:
+                    return TYPE_BOOLEAN;
+                case OBJECT:
+                    return TYPE_OBJECT;
+                case ARRAY:
+                    return TYPE_ARRAY;
+                case NUMBER:
+                    return TYPE_NUMBER | TYPE_INTEGER;
+                case STRING:
+                    return TYPE_STRING;
+                case INTEGER:
+                    return TYPE_INTEGER;
+                default:
+                    throw new IllegalArgumentException(type.toString());
+            }
+        }
+
+        private static int intValue(Integer value, int defaultValue) {
+            return value == null ? defaultValue : value;
+        }
+    }
+
+    private static final class Node {
+
+        boolean alwaysFalse;
+        Node ref;
+
+        int types;
+        Object[] enumeration;
+        boolean hasConst;
+        Object constValue;
+
+        Bound maximum;
+        Bound exclusiveMaximum;
+        Bound minimum;
+        Bound exclusiveMinimum;
+        BigDecimal multipleOf;
+        long longMultipleOf;
+
+        int minLength;
+        int maxLength;
+        Regex pattern;
+
+        int minItems;
+        int maxItems;
+        boolean uniqueItems;
+        Node[] prefixItems;
+        Node items;
+        Node contains;
+        int minContains;
+        int maxContains;
+        Node unevaluatedItems;
+
+        int minProperties;
+        int maxProperties;
+        Map<String, Integer> slots;
+        Node[] propertyNodes;
+        long requiredMask;
+        String[] required;
+        Regex[] patterns;
+        Node[] patternNodes;
+        Node additionalProperties;
+        Node propertyNames;
+        String[] dependentRequiredKeys;
+        String[][] dependentRequired;
+        String[] dependentSchemaKeys;
+        Node[] dependentSchemas;
+        Node unevaluatedProperties;
+
+        Node[] allOf;
+        Node[] anyOf;
+        Node[] oneOf;
+        Node not;
+        Node ifNode;
+        Node thenNode;
+        Node elseNode;
+
+        boolean valid(Object instance) {
+            if (alwaysFalse) {
+                return false;
+            }
+            if (ref != null && !ref.valid(instance)) {
+                return false;
+            }
+            int type = typeOf(instance);
+            if (types != 0 && (types & type) == 0) {
+                return false;
+            }
+            if (enumeration != null && !isEnumerated(instance)) {
+                return false;
+            }
+            if (hasConst && !jsonEquals(constValue, instance)) {
+                return false;
+            }
+            if ((type & TYPE_NUMBER) != 0) {
+                if (!validNumber((Number) instance)) {
+                    return false;
+                }
+            } else if (type == TYPE_STRING) {
+                if (!validString((String) instance)) {
+                    return false;
+                }
+            } else if (type == TYPE_ARRAY) {
+                if (!validArray((List<?>) instance)) {
+                    return false;
+                }
+            } else if (type == TYPE_OBJECT) {
+                if (!validObject((Map<?, ?>) instance)) {
+                    return false;
+                }
+            }
+            return validApplicators(instance);
+        }
+
+        private boolean isEnumerated(Object instance) {
+            for (Object value : enumeration) {
+                if (jsonEquals(value, instance)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean validNumber(Number number) {
+            if (maximum != null && !maximum.test(number)) {
+                return false;
+            }
+            if (exclusiveMaximum != null && !exclusiveMaximum.test(number)) {
+                return false;
+            }
+            if (minimum != null && !minimum.test(number)) {
+                return false;
+            }
+            if (exclusiveMinimum != null && !exclusiveMinimum.test(number)) {
+                return false;
+            }
+            if (multipleOf != null) {
+                if (longMultipleOf > 0 && isLong(number)) {
+                    return number.longValue() % longMultipleOf == 0;
+                }
+                if (longMultipleOf > 0 && number instanceof Double) {
+                    // A whole double below 2^53 is exactly the integer of its decimal representation
+                    double d = number.doubleValue();
+                    if (d == Math.rint(d) && Math.abs(d) < TWO_POW_53) {
+                        return (long) d % longMultipleOf == 0;
+                    }
+                }
+                BigDecimal value = toBigDecimal(number);
+                return value != null && value.remainder(multipleOf).signum() == 0;
+            }
+            return true;
+        }
+
+        private boolean validString(String string) {
+            if (minLength >= 0 || maxLength >= 0) {
+                int length = string.codePointCount(0, string.length());
+                if (minLength >= 0 && length < minLength) {
+                    return false;
+                }
+                if (maxLength >= 0 && length > maxLength) {
+                    return false;
+                }
+            }
+            return pattern == null || pattern.find(string);
+        }
+
+        private boolean validArray(List<?> array) {
+            int size = array.size();
+            if (minItems >= 0 && size < minItems) {
+                return false;
+            }
+            if (maxItems >= 0 && size > maxItems) {
+                return false;
+            }
+            if (uniqueItems && !hasUniqueItems(array)) {
+                return false;
+            }
+            int prefix = prefixItems == null ? 0 : Math.min(prefixItems.length, size);
+            int matches = 0;
+            for (int i = 0; i < size; i++) {
+                Object item = array.get(i);
+                if (i < prefix) {
+                    if (prefixItems[i] != null && !prefixItems[i].valid(item)) {
+                        return false;
+                    }
+                } else if (items != null && !items.valid(item)) {
+                    return false;
+                }
+                if (contains != null && contains.valid(item)) {
+                    matches++;
+                }
+            }
+            if (contains != null) {
+                if (matches < minContains) {
+                    return false;
+                }
+                if (maxContains >= 0 && matches > maxContains) {
+                    return false;
+                }
+            }
+            if (unevaluatedItems != null) {
+                for (int i = 0; i < size; i++) {
+                    Object item = array.get(i);
+                    if (!evaluatesItem(i, item, array, false) && !unevaluatedItems.valid(item)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private boolean validObject(Map<?, ?> object) {
+            int size = object.size();
+            if (minProperties >= 0 && size < minProperties) {
+                return false;
+            }
+            if (maxProperties >= 0 && size > maxProperties) {
+                return false;
+            }
+            long seen = 0;
+            for (Map.Entry<?, ?> entry : object.entrySet()) {
+                String name = String.valueOf(entry.getKey());
+                Object value = entry.getValue();
+                boolean matched = false;
+                if (slots != null) {
+                    Integer slot = slots.get(name);
+                    if (slot != null) {
+                        int index = slot;
+                        if (index < Long.SIZE) {
+                            seen |= 1L << index;
+                        }
+                        Node property = propertyNodes[index];
+                        if (property != null) {
+                            matched = true;
+                            if (!property.valid(value)) {
+                                return false;
+                            }
+                        }
+                    }
+                }
+                if (patterns != null) {
+                    for (int i = 0; i < patterns.length; i++) {
+                        if (patterns[i].find(name)) {
+                            matched = true;
+                            if (patternNodes[i] != null && !patternNodes[i].valid(value)) {
+                                return false;
+                            }
+                        }
+                    }
+                }
+                if (!matched && additionalProperties != null && !additionalProperties.valid(value)) {
+                    return false;
+                }
+                if (propertyNames != null && !propertyNames.valid(name)) {
+                    return false;
+                }
+            }
+            if ((seen & requiredMask) != requiredMask) {
+                return false;
+            }
+            if (required != null) {
+                for (String name : required) {
+                    if (!object.containsKey(name)) {
+                        return false;
+                    }
+                }
+            }
+            if (dependentRequiredKeys != null) {
+                for (int i = 0; i < dependentRequiredKeys.length; i++) {
+                    if (object.containsKey(dependentRequiredKeys[i])) {
+                        for (String name : dependentRequired[i]) {
+                            if (!object.containsKey(name)) {
+                                return false;
+                            }
+                        }
+                    }
+                }
+            }
+            if (dependentSchemaKeys != null) {
+                for (int i = 0; i < dependentSchemaKeys.length; i++) {
+                    if (dependentSchemas[i] != null && object.containsKey(dependentSchemaKeys[i])
+                            && !dependentSchemas[i].valid(object)) {
+                        return false;
+                    }
+                }
+            }
+            if (unevaluatedProperties != null) {
+                for (Map.Entry<?, ?> entry : object.entrySet()) {
+                    String name = String.valueOf(entry.getKey());
+                    if (!evaluatesProperty(name, object, false) && !unevaluatedProperties.valid(entry.getValue())) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private boolean validApplicators(Object instance) {
+            if (allOf != null) {
+                for (Node node : allOf) {
+                    if (node != null && !node.valid(instance)) {
+                        return false;
+                    }
+                }
+            }
+            if (anyOf != null) {
+                boolean any = false;
+                for (Node node : anyOf) {
+                    if (node == null || node.valid(instance)) {
+                        any = true;
+                        break;
+                    }
+                }
+                if (!any) {
+                    return false;
+                }
+            }
+            if (oneOf != null) {
+                int count = 0;
+                for (Node node : oneOf) {
+                    if ((node == null || node.valid(instance)) && ++count > 1) {
+                        return false;
+                    }
+                }
+                if (count != 1) {
+                    return false;
+                }
+            }
+            if (not != null && not.valid(instance)) {
+                return false;
+            }
+            if (ifNode != null) {
+                Node branch = ifNode.valid(instance) ? thenNode : elseNode;
+                if (branch != null && !branch.valid(instance)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns whether this node, or a subschema applied in place, evaluates the given property of a valid object.
+         */
+        boolean evaluatesProperty(String name, Map<?, ?> object, boolean includeUnevaluated) {
+            if (alwaysFalse) {
+                return false;
+            }
+            if (includeUnevaluated && unevaluatedProperties != null) {
+                return true;
+            }
+            if (additionalProperties != null) {
+                return true;
+            }
+            if (slots != null) {
+                Integer slot = slots.get(name);
+                if (slot != null && propertyNodes[slot] != null) {
+                    return true;
+                }
+            }
+            if (patterns != null) {
+                for (Regex pattern : patterns) {
+                    if (pattern.find(name)) {
+                        return true;
+                    }
+                }
+            }
+            if (ref != null && ref.evaluatesProperty(name, object, true)) {
+                return true;
+            }
+            if (allOf != null) {
+                for (Node node : allOf) {
+                    if (node != null && node.evaluatesProperty(name, object, true)) {
+                        return true;
+                    }
+                }
+            }
+            if (anyOf != null && anyEvaluatesProperty(anyOf, name, object)) {
+                return true;
+            }
+            if (oneOf != null && anyEvaluatesProperty(oneOf, name, object)) {
+                return true;
+            }
+            if (dependentSchemaKeys != null) {
+                for (int i = 0; i < dependentSchemaKeys.length; i++) {
+                    if (dependentSchemas[i] != null && object.containsKey(dependentSchemaKeys[i])
+                            && dependentSchemas[i].evaluatesProperty(name, object, true)) {
+                        return true;
+                    }
+                }
+            }
+            if (ifNode != null) {
+                if (ifNode.valid(object)) {
+                    return ifNode.evaluatesProperty(name, object, true)
+                            || thenNode != null && thenNode.evaluatesProperty(name, object, true);
+                }
+                return elseNode != null && elseNode.evaluatesProperty(name, object, true);
+            }
+            return false;
+        }
+
+        private static boolean anyEvaluatesProperty(Node[] nodes, String name, Map<?, ?> object) {
+            for (Node node : nodes) {
+                if (node != null && node.valid(object) && node.evaluatesProperty(name, object, true)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns whether this node, or a subschema applied in place, evaluates the given item of a valid array.
+         */
+        boolean evaluatesItem(int index, Object item, List<?> array, boolean includeUnevaluated) {
+            if (alwaysFalse) {
+                return false;
+            }
+            if (includeUnevaluated && unevaluatedItems != null) {
+                return true;
+            }
+            if (items != null || prefixItems != null && index < prefixItems.length) {
+                return true;
+            }
+            if (contains != null && contains.valid(item)) {
+                return true;
+            }
+            if (ref != null && ref.evaluatesItem(index, item, array, true)) {
+                return true;
+            }
+            if (allOf != null) {
+                for (Node node : allOf) {
+                    if (node != null && node.evaluatesItem(index, item, array, true)) {
+                        return true;
+                    }
+                }
+            }
+            if (anyOf != null && anyEvaluatesItem(anyOf, index, item, array)) {
+                return true;
+            }
+            if (oneOf != null && anyEvaluatesItem(oneOf, index, item, array)) {
+                return true;
+            }
+            if (ifNode != null) {
+                if (ifNode.valid(array)) {
+                    return ifNode.evaluatesItem(index, item, array, true)
+                            || thenNode != null && thenNode.evaluatesItem(index, item, array, true);
+                }
+                return elseNode != null && elseNode.evaluatesItem(index, item, array, true);
+            }
+            return false;
+        }
+
+        private static boolean anyEvaluatesItem(Node[] nodes, int index, Object item, List<?> array) {
+            for (Node node : nodes) {
+                if (node != null && node.valid(array) && node.evaluatesItem(index, item, array, true)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A minimum or maximum, compared as a {@code long} or a {@code double} when that is exact.
+     */
+    private static final class Bound {
+
+        private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+        private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+        private final BigDecimal value;
+        private final boolean maximum;
+        private final boolean exclusive;
+        private final boolean longUsable;
+        private final long longValue;
+        private final boolean longExclusive;
+        private final boolean doubleExact;
+        private final double doubleValue;
+
+        private Bound(BigDecimal value, boolean maximum, boolean exclusive) {
+            this.value = value;
+            this.maximum = maximum;
+            this.exclusive = exclusive;
+            // An integer is compared to a fractional bound by rounding the bound towards the integers that satisfy it
+            BigDecimal rounded = value.setScale(0, maximum ? RoundingMode.FLOOR : RoundingMode.CEILING);
+            this.longUsable = rounded.compareTo(LONG_MIN) >= 0 && rounded.compareTo(LONG_MAX) <= 0;
+            this.longValue = longUsable ? rounded.longValue() : 0;
+            this.longExclusive = exclusive && rounded.compareTo(value) == 0;
+            double d = value.doubleValue();
+            // Doubles are ordered as their shortest decimal representations, so comparing a double to the bound
+            // as a double is exact when the bound is the shortest representation of its nearest double
+            this.doubleExact = !Double.isInfinite(d) && BigDecimal.valueOf(d).compareTo(value) == 0;
+            this.doubleValue = d;
+        }
+
+        static Bound of(BigDecimal value, boolean maximum, boolean exclusive) {
+            return value == null ? null : new Bound(value, maximum, exclusive);
+        }
+
+        boolean test(Number number) {
+            if (longUsable && isLong(number)) {
+                return compare(Long.compare(number.longValue(), longValue), longExclusive);
+            }
+            if (doubleExact && number instanceof Double) {
+                double d = number.doubleValue();
+                if (Double.isNaN(d)) {
+                    return false;
+                }
+                return compare(d < doubleValue ? -1 : (d > doubleValue ? 1 : 0), exclusive);
+            }
+            BigDecimal decimal = toBigDecimal(number);
+            return decimal != null && compare(decimal.compareTo(value), exclusive);
+        }
+
+        private boolean compare(int comparison, boolean exclusive) {
+            if (maximum) {
+                return exclusive ? comparison < 0 : comparison <= 0;
+            }
+            return exclusive ? comparison > 0 : comparison >= 0;
+        }
+    }
+
+    /**
+     * A compiled pattern, with a matcher reused by each thread.
+     */
+    private static final class Regex {
+
+        private final ThreadLocal<Matcher> matcher;
+
+        private Regex(Pattern pattern) {
+            this.matcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
+        }
+
+        static Regex of(String regex) {
+            try {
+                return new Regex(Pattern.compile(regex));
+            } catch (PatternSyntaxException e) {
+                throw new IllegalArgumentException("Invalid pattern " + regex, e);
+            }
+        }
+
+        boolean find(String input) {
+            Matcher m = matcher.get().reset(input);
+            boolean found = m.find();
+            m.reset("");
+            return found;
+        }
+    }
+
+    private static int typeOf(Object instance) {
+        if (instance == null) {
+            return TYPE_NULL;
+        }
+        if (instance instanceof String) {
+            return TYPE_STRING;
+        }
+        if (instance instanceof Number) {
+            return isIntegral((Number) instance) ? TYPE_NUMBER | TYPE_INTEGER : TYPE_NUMBER;
+        }
+        if (instance instanceof Boolean) {
+            return TYPE_BOOLEAN;
+        }
+        if (instance instanceof Map) {
+            return TYPE_OBJECT;
+        }
+        if (instance instanceof List) {
+            return TYPE_ARRAY;
+        }
+        return TYPE_UNKNOWN;
+    }
+
+    private static boolean isLong(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short
+                || number instanceof Byte;
+    }
+
+    private static boolean isIntegral(Number number) {
+        if (isLong(number) || number instanceof BigInteger) {
+            return true;
+        }
+        if (number instanceof Double || number instanceof Float) {
+            double d = number.doubleValue();
+            return !Double.isInfinite(d) && d == Math.rint(d);
+        }
+        if (number instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) number;
+            return decimal.scale() <= 0 || decimal.signum() == 0 || decimal.stripTrailingZeros().scale() <= 0;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the given number as a {@code long} if it is an integer that fits, otherwise {@code 0}.
+     */
+    private static long exactLong(BigDecimal value) {
+        try {
+            return value.longValueExact();
+        } catch (ArithmeticException e) {
+            return 0;
+        }
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (isLong(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        if (number instanceof Float) {
+            float f = number.floatValue();
+            return Float.isNaN(f) || Float.isInfinite(f) ? null : new BigDecimal(Float.toString(f));
+        }
+        double d = number.doubleValue();
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+            return null;
+        }
+        return BigDecimal.valueOf(d);
+    }
+
+    private static int compareNumbers(Number a, Number b) {
+        if (isLong(a) && isLong(b)) {
+            return Long.compare(a.longValue(), b.longValue());
+        }
+        BigDecimal x = toBigDecimal(a);
+        BigDecimal y = toBigDecimal(b);
+        if (x == null || y == null) {
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        }
+        return x.compareTo(y);
+    }
+
+    private static boolean jsonEquals(Object a, Object b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        if (a instanceof Number && b instanceof Number) {
+            return compareNumbers((Number) a, (Number) b) == 0;
+        }
+        if (a instanceof List && b instanceof List) {
+            List<?> x = (List<?>) a;
+            List<?> y = (List<?>) b;
+            if (x.size() != y.size()) {
+                return false;
+            }
+            for (int i = 0; i < x.size(); i++) {
+                if (!jsonEquals(x.get(i), y.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (a instanceof Map && b instanceof Map) {
+            Map<?, ?> x = (Map<?, ?>) a;
+            Map<?, ?> y = (Map<?, ?>) b;
+            if (x.size() != y.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : x.entrySet()) {
+                Object other = y.get(entry.getKey());
+                if ((other == null && !y.containsKey(entry.getKey())) || !jsonEquals(entry.getValue(), other)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return a.equals(b);
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #jsonEquals(Object, Object)}.
+     */
+    private static int jsonHash(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            Number number = (Number) value;
+            if (isLong(number)) {
+                return Long.hashCode(number.longValue());
+            }
+            if (isIntegral(number)) {
+                BigDecimal decimal = toBigDecimal(number);
+                if (decimal != null && decimal.abs().compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0) {
+                    return Long.hashCode(decimal.longValue());
+                }
+            }
+            BigDecimal decimal = toBigDecimal(number);
+            return Double.hashCode(decimal == null ? number.doubleValue() : decimal.doubleValue());
+        }
+        if (value instanceof List) {
+            int hash = 1;
+            for (Object item : (List<?>) value) {
+                hash = 31 * hash + jsonHash(item);
+            }
+            return hash;
+        }
+        if (value instanceof Map) {
+            int hash = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                hash += Objects.hashCode(entry.getKey()) ^ jsonHash(entry.getValue());
+            }
+            return hash;
+        }
+        return value.hashCode();
+    }
+
+    private static boolean hasUniqueItems(List<?> array) {
+        int size = array.size();
+        if (size <= UNIQUE_ITEMS_PAIRWISE_LIMIT) {
+            for (int i = 0; i < size; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    if (jsonEquals(array.get(i), array.get(j))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        // Sort the items by hash code, then compare the items with equal hash codes
+        long[] hashes = new long[size];
+        for (int i = 0; i < size; i++) {
+            hashes[i] = ((long) jsonHash(array.get(i)) << 32) | i;
+        }
+        Arrays.sort(hashes);
+        for (int i = 0; i < size; i++) {
+            int hash = (int) (hashes[i] >> 32);
+            for (int j = i + 1; j < size && (int) (hashes[j] >> 32) == hash; j++) {
+                if (jsonEquals(array.get((int) hashes[i]), array.get((int) hashes[j]))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
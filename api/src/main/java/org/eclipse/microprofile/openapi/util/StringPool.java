@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical string instances, used to store the strings that repeat many times in an OpenAPI document only
+ * once, such as media types, response codes, schema type names, references and extension names.
+ * <p>
+ * Readers of static files and model implementations pass the strings they keep to {@link #intern(String)} and keep the
+ * returned instance instead. Unlike {@link String#intern()}, a pool only references its strings weakly, so a string
+ * that is no longer used by any model is released with it, and a pool is bounded, so that a document with many
+ * distinct values cannot grow it without limit. Once the pool is full, strings that are not already in the pool are
+ * returned as is.
+ * <p>
+ * A pool may be created for each document with {@link #create(int)}, or the {@link #shared() shared pool} may be used
+ * to also deduplicate strings across documents.
+ * <p>
+ * Instances of this class are safe for use by multiple concurrent threads.
+ *
+ * @since 4.2
+ */
+public final class StringPool {
+
+    /**
+     * The maximum number of strings of the {@link #shared() shared pool}.
+     */
+    public static final int SHARED_MAX_SIZE = 65536;
+
+    private static final StringPool SHARED = new StringPool(SHARED_MAX_SIZE);
+
+    private final int maxSize;
+    private final Map<String, WeakReference<String>> strings = new WeakHashMap<>();
+
+    private StringPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates a pool holding at most the given number of strings.
+     *
+     * @param maxSize
+     *            the maximum number of strings in the pool
+     * @return the new pool
+     * @throws IllegalArgumentException
+     *             if maxSize is negative
+     */
+    public static StringPool create(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Negative maximum size: " + maxSize);
+        }
+        return new StringPool(maxSize);
+    }
+
+    /**
+     * Returns the pool shared by all users of this class, which holds at most {@value #SHARED_MAX_SIZE} strings.
+     *
+     * @return the shared pool
+     */
+    public static StringPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the canonical instance of the given string. If the pool holds a string equal to the given string, that
+     * string is returned. Otherwise the given string is added to the pool, unless the pool is full, and returned.
+     *
+     * @param value
+     *            the string, may be null
+     * @return a string equal to the given string, or null if the given string is null
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        synchronized (strings) {
+            WeakReference<String> ref = strings.get(value);
+            if (ref != null) {
+                String canonical = ref.get();
+                if (canonical != null) {
+                    return canonical;
+                }
+            }
+            // size() first removes the strings which are no longer referenced
+            if (strings.size() < maxSize) {
+                strings.put(value, new WeakReference<>(value));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Returns the number of strings in the pool, not counting strings which are no longer referenced outside of the
+     * pool.
+     *
+     * @return the number of strings in the pool
+     */
+    public int size() {
+        synchronized (strings) {
+            return strings.size();
+        }
+    }
+
+    /**
+     * Returns the maximum number of strings in the pool.
+     *
+     * @return the maximum number of strings in the pool
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all strings from the pool. Strings returned earlier remain valid, but are no longer canonical.
+     */
+    public void clear() {
+        synchronized (strings) {
+            strings.clear();
+        }
+    }
+}
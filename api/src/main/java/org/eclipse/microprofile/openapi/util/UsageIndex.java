@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+
+/**
+ * An index of the usages of the entries of the Components element of an OpenAPI document, that is of the elements
+ * referring to each component.
+ * <p>
+ * The index is built in a single pass over the paths, webhooks, security requirements and components of the document.
+ * The following are considered usages of a component:
+ * <ul>
+ * <li>a {@code $ref} to the component, as resolved by {@link ReferenceIndex}</li>
+ * <li>a value of a schema {@link org.eclipse.microprofile.openapi.models.media.Discriminator#getMapping() discriminator
+ * mapping}, naming a schema component or referring to it</li>
+ * <li>a key of a {@link org.eclipse.microprofile.openapi.models.security.SecurityRequirement SecurityRequirement},
+ * naming a security scheme component</li>
+ * </ul>
+ * A component is <em>reachable</em> if it is used outside of the Components element, or if it is used by a reachable
+ * component. The reachable components are computed once, in time linear in the number of components and usages.
+ * <p>
+ * Like {@link ReferenceIndex}, the index reflects the document at the time the index was created.
+ *
+ * @since 4.2
+ */
+public final class UsageIndex {
+
+    private final ReferenceIndex references;
+    private final Map<ComponentKey, Set<ComponentKey>> referringComponents = new HashMap<>();
+    private final Map<ComponentKey, List<Operation>> referringOperations = new HashMap<>();
+    private final Map<ComponentKey, Set<ComponentKey>> referencedComponents = new HashMap<>();
+    private final Set<ComponentKey> reachable;
+
+    private UsageIndex(OpenAPI openAPI) {
+        this.references = ReferenceIndex.of(openAPI);
+        Set<ComponentKey> roots = new LinkedHashSet<>();
+        new ModelWalker(references) {
+            private ComponentKey component;
+            private Operation operation;
+
+            @Override
+            void enterOperation(Operation operation) {
+                this.operation = operation;
+            }
+
+            @Override
+            void exitOperation(Operation operation) {
+                this.operation = null;
+            }
+
+            @Override
+            void enterComponent(ComponentKey key) {
+                this.component = key;
+            }
+
+            @Override
+            void exitComponent(ComponentKey key) {
+                this.component = null;
+            }
+
+            @Override
+            void reference(ComponentKey key) {
+                if (component != null) {
+                    referencedComponents.computeIfAbsent(component, k -> new LinkedHashSet<>()).add(key);
+                    referringComponents.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(component);
+                    return;
+                }
+                roots.add(key);
+                if (operation != null) {
+                    List<Operation> operations = referringOperations.computeIfAbsent(key, k -> new ArrayList<>());
+                    // The usages within an operation are reported together, so only the last operation added may be
+                    // a duplicate
+                    if (operations.isEmpty() || operations.get(operations.size() - 1) != operation) {
+                        operations.add(operation);
+                    }
+                }
+            }
+        }.walk(openAPI);
+        this.reachable = reachableFrom(roots);
+    }
+
+    /**
+     * Creates the usage index of the given OpenAPI document.
+     *
+     * @param openAPI
+     *            the OpenAPI document
+     * @return the usage index
+     */
+    public static UsageIndex of(OpenAPI openAPI) {
+        return new UsageIndex(openAPI);
+    }
+
+    /**
+     * Removes the components that are not reachable from the given OpenAPI document.
+     * <p>
+     * This is equivalent to removing from the Components element each of the keys returned by
+     * {@code UsageIndex.of(openAPI).getUnreachableComponents()}.
+     *
+     * @param openAPI
+     *            the OpenAPI document, which must be mutable
+     * @return the keys of the components removed
+     */
+    public static Set<ComponentKey> removeUnreachableComponents(OpenAPI openAPI) {
+        Set<ComponentKey> unreachable = of(openAPI).getUnreachableComponents();
+        Components components = openAPI.getComponents();
+        for (ComponentKey key : unreachable) {
+            key.getType().remove(components, key.getName());
+        }
+        return unreachable;
+    }
+
+    /**
+     * @return the index of the components of the document
+     */
+    public ReferenceIndex getReferenceIndex() {
+        return references;
+    }
+
+    /**
+     * Returns the components that use the given component directly.
+     *
+     * @param key
+     *            the key of a component
+     * @return an unmodifiable set of the keys of the components using the component
+     */
+    public Set<ComponentKey> getReferringComponents(ComponentKey key) {
+        return unmodifiable(referringComponents.get(key));
+    }
+
+    /**
+     * Returns the operations of the paths and webhooks of the document that use the given component directly, including
+     * through the callbacks of the operations.
+     *
+     * @param key
+     *            the key of a component
+     * @return an unmodifiable list of the operations using the component, in the order they were found
+     */
+    public List<Operation> getReferringOperations(ComponentKey key) {
+        List<Operation> operations = referringOperations.get(key);
+        return operations == null ? Collections.emptyList() : Collections.unmodifiableList(operations);
+    }
+
+    /**
+     * Returns the components used directly by the given component.
+     *
+     * @param key
+     *            the key of a component
+     * @return an unmodifiable set of the keys of the components used by the component
+     */
+    public Set<ComponentKey> getReferencedComponents(ComponentKey key) {
+        return unmodifiable(referencedComponents.get(key));
+    }
+
+    /**
+     * Returns whether the given component is reachable from outside of the Components element.
+     *
+     * @param key
+     *            the key of a component
+     * @return true if the component is reachable
+     */
+    public boolean isReachable(ComponentKey key) {
+        return reachable.contains(key);
+    }
+
+    /**
+     * @return an unmodifiable set of the keys of the components reachable from outside of the Components element
+     */
+    public Set<ComponentKey> getReachableComponents() {
+        return Collections.unmodifiableSet(reachable);
+    }
+
+    /**
+     * @return an unmodifiable set of the keys of the components that are not reachable from outside of the Components
+     *         element
+     */
+    public Set<ComponentKey> getUnreachableComponents() {
+        Set<ComponentKey> unreachable = new LinkedHashSet<>();
+        for (ComponentKey key : references.keys()) {
+            if (!reachable.contains(key)) {
+                unreachable.add(key);
+            }
+        }
+        return Collections.unmodifiableSet(unreachable);
+    }
+
+    private Set<ComponentKey> reachableFrom(Set<ComponentKey> roots) {
+        Set<ComponentKey> result = new HashSet<>(roots);
+        Deque<ComponentKey> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            Set<ComponentKey> targets = referencedComponents.get(pending.pop());
+            if (targets == null) {
+                continue;
+            }
+            for (ComponentKey target : targets) {
+                if (result.add(target)) {
+                    pending.push(target);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Set<ComponentKey> unmodifiable(Set<ComponentKey> keys) {
+        return keys == null ? Collections.emptySet() : Collections.unmodifiableSet(keys);
+    }
+}
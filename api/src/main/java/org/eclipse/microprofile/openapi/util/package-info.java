@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ * Utilities that operate on OpenAPI model trees created with the
+ * {@link org.eclipse.microprofile.openapi.OASFactory OASFactory}, independently of the implementation of the model.
+ * <p>
+ * The classes in this package only use the interfaces of the {@link org.eclipse.microprofile.openapi.models} packages.
+ * Unless otherwise stated, they do not modify the model elements they are given. The package also provides building
+ * blocks, such as compact storage for model properties, that model implementations may use.
+ *
+ * @since 4.2
+ */
+
+@org.osgi.annotation.versioning.Version("1.0")
+package org.eclipse.microprofile.openapi.util;
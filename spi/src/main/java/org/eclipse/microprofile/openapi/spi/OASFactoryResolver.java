@@ -16,11 +16,20 @@
 
 package org.eclipse.microprofile.openapi.spi;
 
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.media.Schema;
 
 /**
  * This class is not intended to be used by end-users. It should be used by vendors to set their implementation of
@@ -36,6 +45,22 @@ public abstract class OASFactoryResolver {
 
     private static volatile OASFactoryResolver instance = null;
 
+    private static volatile Registry registry = Registry.EMPTY;
+
+    /**
+     * Strong references to the resolvers registered for class loaders within which they were loaded, stored with the
+     * resolver's class so that they remain reachable exactly as long as that class and its class loader.
+     */
+    private static final ClassValue<Map<ClassLoader, OASFactoryResolver>> PINNED =
+            new ClassValue<Map<ClassLoader, OASFactoryResolver>>() {
+                @Override
+                protected Map<ClassLoader, OASFactoryResolver> computeValue(Class<?> type) {
+                    return Collections.synchronizedMap(new WeakHashMap<>());
+                }
+            };
+
+    private final ConcurrentMap<Class<?>, Supplier<?>> suppliers = new ConcurrentHashMap<>();
+
     /**
      * Create a new instance of a constructible element from the OpenAPI model tree.
      *
@@ -53,40 +78,224 @@ public abstract class OASFactoryResolver {
      */
     public abstract <T extends Constructible> T createObject(Class<T> clazz);
 
+    /**
+     * Returns a supplier of new instances of a constructible element from the OpenAPI model tree. The supplier is
+     * obtained from {@link #createSupplier(Class)} the first time a class is requested and is cached by this resolver
+     * for subsequent requests, so that the lookup performed by {@link #createObject(Class)} is not repeated each time a
+     * model element is constructed.
+     * <p>
+     * Each call still looks the class up in this resolver's cache. Code constructing many elements of the same class
+     * may call this method once and keep the returned supplier, whose {@link Supplier#get()} method then creates each
+     * element directly.
+     *
+     * @param <T>
+     *            describes the type parameter
+     * @param clazz
+     *            represents a model which extends the org.eclipse.microprofile.openapi.models.Constructible interface
+     *
+     * @return a supplier of new instances of the requested model class
+     *
+     * @throws NullPointerException
+     *             if the specified class is null
+     * @throws IllegalArgumentException
+     *             if a supplier could not be created, most likely, due to an illegal or inappropriate class. An
+     *             implementation may instead throw this exception when the returned supplier is invoked.
+     *
+     * @since 4.2
+     */
+    public final <T extends Constructible> Supplier<T> supplierFor(Class<T> clazz) {
+        Supplier<?> supplier = suppliers.get(clazz);
+
+        if (supplier == null) {
+            Supplier<T> newSupplier = createSupplier(clazz);
+
+            if (newSupplier == null) {
+                throw new IllegalArgumentException("No supplier available for " + clazz.getName());
+            }
+
+            supplier = suppliers.putIfAbsent(clazz, newSupplier);
+
+            if (supplier == null) {
+                return newSupplier;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Supplier<T> result = (Supplier<T>) supplier;
+        return result;
+    }
+
+    /**
+     * Creates a supplier of new instances of a constructible element from the OpenAPI model tree. This method is
+     * called at most once per class by {@link #supplierFor(Class)} (concurrent callers may race, in which case only
+     * one of the results is retained). Implementations are encouraged to override this method to return a supplier
+     * that directly constructs the implementation class, for example a constructor reference. The default
+     * implementation delegates each invocation of the supplier to {@link #createObject(Class)}.
+     *
+     * @param <T>
+     *            describes the type parameter
+     * @param clazz
+     *            represents a model which extends the org.eclipse.microprofile.openapi.models.Constructible interface
+     *
+     * @return a supplier of new instances of the requested model class
+     *
+     * @throws IllegalArgumentException
+     *             if a supplier could not be created, most likely, due to an illegal or inappropriate class
+     *
+     * @since 4.2
+     */
+    protected <T extends Constructible> Supplier<T> createSupplier(Class<T> clazz) {
+        return () -> createObject(clazz);
+    }
+
+    /**
+     * Create a deeply immutable copy of an element from the OpenAPI model tree. See
+     * {@link org.eclipse.microprofile.openapi.OASFactory#freeze(Constructible)} for the requirements placed on the
+     * returned copy.
+     * <p>
+     * The default implementation throws {@link UnsupportedOperationException}. Implementations are expected to
+     * override this method.
+     *
+     * @param <T>
+     *            describes the type parameter
+     * @param model
+     *            the model element to freeze
+     *
+     * @return an immutable copy of the model element, or the model element itself if it is already frozen
+     *
+     * @throws NullPointerException
+     *             if the specified model element is null
+     * @throws UnsupportedOperationException
+     *             if the implementation does not support immutable model elements
+     *
+     * @since 4.2
+     */
+    public <T extends Constructible> T freeze(T model) {
+        throw new UnsupportedOperationException("Immutable models not supported by " + getClass().getName());
+    }
+
+    /**
+     * Check whether an element from the OpenAPI model tree was created by {@link #freeze(Constructible)}. The default
+     * implementation returns false.
+     *
+     * @param model
+     *            the model element to check
+     *
+     * @return true if the model element is immutable, otherwise false
+     *
+     * @since 4.2
+     */
+    public boolean isFrozen(Constructible model) {
+        return false;
+    }
+
+    /**
+     * Returns the writer used to serialize OpenAPI model trees created by this resolver.
+     * <p>
+     * The default implementation throws {@link UnsupportedOperationException}. Implementations are expected to
+     * override this method.
+     *
+     * @return the writer
+     *
+     * @throws UnsupportedOperationException
+     *             if the implementation does not provide a writer
+     *
+     * @since 4.2
+     */
+    public OASWriter getWriter() {
+        throw new UnsupportedOperationException("OASWriter not supported by " + getClass().getName());
+    }
+
+    /**
+     * Parses a schema in JSON format, such as the value of a {@code mp.openapi.schema.*} configuration property, into a
+     * new, mutable schema created by this resolver. All properties of the JSON object, including properties which are
+     * not keywords of the schema dialect, are set on the schema.
+     * <p>
+     * The default implementation throws {@link UnsupportedOperationException}. Implementations are expected to
+     * override this method.
+     *
+     * @param json
+     *            the schema in JSON format
+     *
+     * @return the parsed schema
+     *
+     * @throws IllegalArgumentException
+     *             if the value is not a JSON object
+     * @throws UnsupportedOperationException
+     *             if the implementation does not support parsing schemas
+     *
+     * @since 4.2
+     */
+    public Schema parseSchema(String json) {
+        throw new UnsupportedOperationException("Parsing schemas not supported by " + getClass().getName());
+    }
+
     /**
      * Creates an OASFactoryResolver object. Only used internally from within
      * {@link org.eclipse.microprofile.openapi.OASFactory}
+     * <p>
+     * When no instance has been set using {@link #setInstance(OASFactoryResolver)}, the resolver is looked up using
+     * the thread context class loader. The resolver found for a class loader is registered for that class loader, so
+     * that the {@link java.util.ServiceLoader} lookup is performed only once per class loader. Class loaders are
+     * weakly referenced by the registry and their entries are discarded once they have been garbage collected. A
+     * resolver loaded by the class loader itself, or by one of its descendants, is referenced through its own class, so
+     * that it remains registered for as long as the class loader is reachable without keeping the class loader
+     * reachable.
      *
      * @return an instance of OASFactoryResolver
      */
     public static OASFactoryResolver instance() {
-        if (instance == null) {
-            synchronized (OASFactoryResolver.class) {
-                if (instance != null) {
-                    return instance;
-                }
+        OASFactoryResolver globalInstance = instance;
 
-                ClassLoader cl = AccessController.doPrivileged(new PrivilegedAction<ClassLoader>() {
-                    @Override
-                    public ClassLoader run() {
-                        return Thread.currentThread().getContextClassLoader();
-                    }
-                });
-                if (cl == null) {
-                    cl = OASFactoryResolver.class.getClassLoader();
-                }
+        if (globalInstance != null) {
+            return globalInstance;
+        }
+
+        ClassLoader cl = contextClassLoader();
+        OASFactoryResolver resolver = registry.get(cl);
+
+        if (resolver == null) {
+            resolver = register(cl);
+        }
 
-                OASFactoryResolver newInstance = loadSpi(cl);
+        return resolver;
+    }
+
+    private static ClassLoader contextClassLoader() {
+        ClassLoader cl;
 
-                if (newInstance == null) {
-                    throw new IllegalStateException("No OASFactoryResolver implementation found!");
+        if (System.getSecurityManager() == null) {
+            cl = Thread.currentThread().getContextClassLoader();
+        } else {
+            cl = AccessController.doPrivileged(new PrivilegedAction<ClassLoader>() {
+                @Override
+                public ClassLoader run() {
+                    return Thread.currentThread().getContextClassLoader();
                 }
+            });
+        }
+
+        if (cl == null) {
+            cl = OASFactoryResolver.class.getClassLoader();
+        }
+
+        return cl;
+    }
+
+    private static synchronized OASFactoryResolver register(ClassLoader cl) {
+        OASFactoryResolver resolver = registry.get(cl);
+
+        if (resolver == null) {
+            resolver = loadSpi(cl);
 
-                instance = newInstance;
+            if (resolver == null) {
+                throw new IllegalStateException("No OASFactoryResolver implementation found!");
             }
+
+            update(cl, resolver);
         }
 
-        return instance;
+        return resolver;
     }
 
     private static OASFactoryResolver loadSpi(ClassLoader cl) {
@@ -112,7 +321,9 @@ public abstract class OASFactoryResolver {
     }
 
     /**
-     * Set the instance. It is used by OSGi environment while service loader pattern is not supported.
+     * Set the instance. It is used by OSGi environment while service loader pattern is not supported. When set, the
+     * instance is returned by {@link #instance()} regardless of the thread context class loader. Passing null removes
+     * the instance, after which {@link #instance()} uses the resolvers registered for each class loader.
      *
      * @param factory
      *            set the instance.
@@ -120,4 +331,155 @@ public abstract class OASFactoryResolver {
     public static void setInstance(OASFactoryResolver factory) {
         instance = factory;
     }
+
+    /**
+     * Set the instance used for the given class loader, when no instance has been set using
+     * {@link #setInstance(OASFactoryResolver)}. Passing a null instance removes the registration, after which the next
+     * lookup for the class loader will use the {@link java.util.ServiceLoader} mechanism.
+     * <p>
+     * If the instance was loaded by the given class loader, or by one of its descendants, the registration does not
+     * prevent the class loader from being garbage collected, and the registration is discarded along with the class
+     * loader. Otherwise, runtimes should remove the registration when the class loader is discarded.
+     *
+     * @param cl
+     *            the class loader, typically the thread context class loader of an application
+     * @param factory
+     *            the instance to use for the class loader, or null to remove the registration
+     *
+     * @throws NullPointerException
+     *             if the specified class loader is null
+     *
+     * @since 4.2
+     */
+    public static void setInstance(ClassLoader cl, OASFactoryResolver factory) {
+        Objects.requireNonNull(cl, "cl");
+
+        synchronized (OASFactoryResolver.class) {
+            update(cl, factory);
+        }
+    }
+
+    // Called while holding the lock of OASFactoryResolver.class
+    private static void update(ClassLoader cl, OASFactoryResolver resolver) {
+        OASFactoryResolver previous = registry.get(cl);
+
+        if (previous != null && isLoadedWithin(previous, cl)) {
+            PINNED.get(previous.getClass()).remove(cl);
+        }
+        if (resolver != null && isLoadedWithin(resolver, cl)) {
+            PINNED.get(resolver.getClass()).put(cl, resolver);
+        }
+
+        registry = registry.with(cl, resolver);
+    }
+
+    private static boolean isLoadedWithin(OASFactoryResolver resolver, ClassLoader cl) {
+        if (System.getSecurityManager() == null) {
+            return isDescendant(resolver.getClass().getClassLoader(), cl);
+        }
+        return AccessController.doPrivileged(new PrivilegedAction<Boolean>() {
+            @Override
+            public Boolean run() {
+                return isDescendant(resolver.getClass().getClassLoader(), cl);
+            }
+        });
+    }
+
+    private static boolean isDescendant(ClassLoader loader, ClassLoader ancestor) {
+        for (ClassLoader l = loader; l != null; l = l.getParent()) {
+            if (l == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Immutable open addressing table of resolvers, keyed by the identity of weakly referenced class loaders. A new
+     * table is built for each modification, allowing the table to be read without locking. Entries for class loaders
+     * that have been garbage collected are dropped when the next table is built.
+     * <p>
+     * A resolver loaded within its key's class loader is held by a weak reference, since a strong reference from the
+     * table would keep the class loader reachable through the resolver's class. Such a resolver is kept reachable by
+     * {@code PINNED} instead.
+     */
+    private static final class Registry {
+
+        static final Registry EMPTY = new Registry(0);
+
+        private final WeakReference<?>[] keys;
+        // Each value is either an OASFactoryResolver or a WeakReference to one
+        private final Object[] values;
+        private final int mask;
+
+        private Registry(int capacity) {
+            keys = new WeakReference<?>[capacity];
+            values = new Object[capacity];
+            mask = capacity - 1;
+        }
+
+        OASFactoryResolver get(ClassLoader cl) {
+            if (keys.length == 0) {
+                return null;
+            }
+
+            for (int i = System.identityHashCode(cl) & mask;; i = (i + 1) & mask) {
+                WeakReference<?> key = keys[i];
+
+                if (key == null) {
+                    return null;
+                }
+                if (key.get() == cl) {
+                    Object value = values[i];
+                    return (OASFactoryResolver) (value instanceof WeakReference ? ((WeakReference<?>) value).get()
+                            : value);
+                }
+            }
+        }
+
+        Registry with(ClassLoader cl, OASFactoryResolver resolver) {
+            int size = resolver != null ? 1 : 0;
+
+            for (WeakReference<?> key : keys) {
+                Object loader = key != null ? key.get() : null;
+
+                if (loader != null && loader != cl) {
+                    size++;
+                }
+            }
+
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            // Keep the table at most half full so that probing always terminates quickly
+            Registry result = new Registry(Integer.highestOneBit(size) << 2);
+
+            for (int i = 0; i < keys.length; i++) {
+                Object loader = keys[i] != null ? keys[i].get() : null;
+
+                if (loader != null && loader != cl) {
+                    result.put(loader, keys[i], values[i]);
+                }
+            }
+
+            if (resolver != null) {
+                result.put(cl, new WeakReference<>(cl),
+                        isLoadedWithin(resolver, cl) ? new WeakReference<>(resolver) : resolver);
+            }
+
+            return result;
+        }
+
+        private void put(Object loader, WeakReference<?> key, Object value) {
+            int i = System.identityHashCode(loader) & mask;
+
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+
+            keys[i] = key;
+            values[i] = value;
+        }
+    }
 }
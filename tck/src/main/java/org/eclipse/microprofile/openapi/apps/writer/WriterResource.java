@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.apps.writer;
+
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.reader.MyOASModelReaderImpl;
+import org.eclipse.microprofile.openapi.spi.OASWriter;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+/**
+ * Writes the model built by {@link MyOASModelReaderImpl} using the vendor's {@link OASWriter}, so that the result can
+ * be compared with the document served by the /openapi endpoint.
+ */
+@Path("/document")
+public class WriterResource {
+
+    @GET
+    @Path("/{format}/stream")
+    public Response writeToStream(@PathParam("format") String format) {
+        OASWriter.Format documentFormat = OASWriter.Format.valueOf(format);
+        OpenAPI model = new MyOASModelReaderImpl().buildModel();
+        StreamingOutput body = out -> OASWriter.instance().write(model, documentFormat, out);
+        return Response.ok(body, documentFormat.getMediaType()).build();
+    }
+
+    @GET
+    @Path("/{format}/channel")
+    public Response writeToChannel(@PathParam("format") String format) {
+        OASWriter.Format documentFormat = OASWriter.Format.valueOf(format);
+        OpenAPI model = new MyOASModelReaderImpl().buildModel();
+        StreamingOutput body = out -> {
+            WritableByteChannel channel = Channels.newChannel(out);
+            OASWriter.instance().write(model, documentFormat, channel);
+        };
+        return Response.ok(body, documentFormat.getMediaType()).build();
+    }
+}
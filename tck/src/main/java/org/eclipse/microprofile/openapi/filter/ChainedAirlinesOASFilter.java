@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.filter;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+
+/**
+ * A filter registered after {@link AirlinesOASFilter}. It verifies that it receives the elements returned by the
+ * previous filter, and records whether it was called for a parameter that the previous filter removed.
+ */
+public class ChainedAirlinesOASFilter implements OASFilter {
+
+    private volatile boolean removedParameterFiltered;
+
+    @Override
+    public Operation filterOperation(Operation operation) {
+        if ("filterOperation - Get a booking with ID".equals(operation.getSummary())) {
+            operation.setSummary("chained - filterOperation - Get a booking with ID");
+        }
+        return operation;
+    }
+
+    @Override
+    public Parameter filterParameter(Parameter parameter) {
+        if ("password".equals(parameter.getName())) {
+            // Removed by AirlinesOASFilter, so this filter must not see it
+            removedParameterFiltered = true;
+        }
+        return parameter;
+    }
+
+    @Override
+    public void filterOpenAPI(OpenAPI openAPI) {
+        PathItem bookingById = openAPI.getPaths().getPathItem("/bookings/{id}");
+        Operation put = bookingById.getPUT();
+        if ("filterOpenAPI - Update a booking with ID".equals(put.getSummary())) {
+            put.setSummary("chained - filterOpenAPI - Update a booking with ID");
+        }
+        if (removedParameterFiltered) {
+            openAPI.addExtension("x-removed-parameter-filtered", Boolean.TRUE);
+        }
+    }
+}
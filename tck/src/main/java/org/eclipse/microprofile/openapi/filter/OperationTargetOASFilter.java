@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.filter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * A filter that only targets operations. The schema and tag filter methods must not be called, since their element
+ * types are not included in the set returned by {@link #targets()}.
+ */
+public class OperationTargetOASFilter implements OASFilter {
+
+    @Override
+    public Set<FilterTarget> targets() {
+        return EnumSet.of(FilterTarget.OPERATION);
+    }
+
+    @Override
+    public Operation filterOperation(Operation operation) {
+        if ("Get a booking with ID".equals(operation.getSummary())) {
+            operation.setSummary("filterOperation - Get a booking with ID");
+        }
+        return operation;
+    }
+
+    @Override
+    public Schema filterSchema(Schema schema) {
+        if ("subscription information".equals(schema.getDescription())) {
+            schema.setDescription("filterSchema - not a target");
+        }
+        return schema;
+    }
+
+    @Override
+    public Tag filterTag(Tag tag) {
+        if ("Operations about user".equals(tag.getDescription())) {
+            tag.setDescription("filterTag - not a target");
+        }
+        return tag;
+    }
+}
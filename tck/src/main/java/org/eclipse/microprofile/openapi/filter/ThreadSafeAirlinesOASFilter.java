@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.filter;
+
+/**
+ * The {@link AirlinesOASFilter}, declared as thread-safe so that the vendor framework may filter independent parts of
+ * the model in parallel. The filtered model is expected to be the same as the one produced by AirlinesOASFilter.
+ */
+public class ThreadSafeAirlinesOASFilter extends AirlinesOASFilter {
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.reader;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASModelReader;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * A model reader that records how many times it has been called, in the {@code x-model-reader-calls} extension of the
+ * model it builds.
+ */
+public class CountingOASModelReader implements OASModelReader {
+
+    private static final AtomicInteger CALLS = new AtomicInteger();
+
+    @Override
+    public OpenAPI buildModel() {
+        return OASFactory.createOpenAPI()
+                .info(OASFactory.createInfo()
+                        .title("Lazy Airlines API")
+                        .version("1.0"))
+                .addExtension("x-model-reader-calls", CALLS.incrementAndGet());
+    }
+}
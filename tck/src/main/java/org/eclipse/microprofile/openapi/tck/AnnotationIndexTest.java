@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.apps.airlines.model.Airline;
+import org.eclipse.microprofile.openapi.apps.airlines.resources.ReviewResource;
+import org.eclipse.microprofile.openapi.util.AnnotationIndex;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * This test covers the annotation index at META-INF/openapi.idx. The application is the same as in
+ * {@link OASConfigWebInfTest}, with an index of its classes, and must produce the same document as when its classes
+ * are scanned without an index, the scan configuration being applied to the indexed classes.
+ */
+public class AnnotationIndexTest extends OASConfigScanClassBase {
+
+    private static final String CLASSES = "/WEB-INF/classes/";
+
+    @Deployment(name = "airlinesIndexed", testable = false)
+    public static WebArchive createDeployment() {
+        WebArchive war = ShrinkWrap.create(WebArchive.class, "airlinesIndexed.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addAsManifestResource("class-microprofile-config.properties", "microprofile-config.properties");
+        return war.addAsManifestResource(new ByteArrayAsset(createIndex(war)), "openapi.idx");
+    }
+
+    private static byte[] createIndex(WebArchive war) {
+        List<Class<?>> classes = new ArrayList<>();
+        for (ArchivePath path : war.getContent(Filters.include(".*\\.class")).keySet()) {
+            String name = path.get();
+            name = name.substring(CLASSES.length(), name.length() - ".class".length()).replace('/', '.');
+            try {
+                classes.add(Class.forName(name, false, AnnotationIndexTest.class.getClassLoader()));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            AnnotationIndex.of(classes).write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testIndexFormat() throws IOException {
+        byte[] bytes = createIndex(createDeployment());
+        AnnotationIndex index = AnnotationIndex.read(new ByteArrayInputStream(bytes));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.write(out);
+        Assert.assertEquals(out.toByteArray(), bytes);
+
+        String review = ReviewResource.class.getName();
+        assertThat(index.getClassNames("jakarta.ws.rs.Path"), hasItem(review));
+        assertThat(index.getClassNames(Operation.class.getName()), hasItem(review));
+        assertThat(index.getClassNames(Operation.class.getName()), not(hasItem(Airline.class.getName())));
+        assertThat(index.getClassNames(Schema.class.getName()), hasItem(Airline.class.getName()));
+        assertThat(index.getEntries(review), hasItem(allOf(
+                hasProperty("kind", equalTo(AnnotationIndex.Kind.PARAMETER)),
+                hasProperty("annotationName", equalTo("jakarta.ws.rs.PathParam")),
+                hasProperty("member", startsWith("getReviewById(I)")),
+                hasProperty("parameterIndex", equalTo(0)))));
+    }
+}
@@ -34,6 +34,7 @@ import io.restassured.parsing.Parser;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
+import io.restassured.specification.RequestSpecification;
 
 public abstract class AppTestBase extends Arquillian {
 
@@ -86,6 +87,40 @@ public abstract class AppTestBase extends Arquillian {
         return vr;
     }
 
+    /**
+     * Call the /openapi endpoint with an {@code If-None-Match} header containing the given entity tag. The status of
+     * the response is not checked, since a {@code 304 Not Modified} response is expected when the entity tag matches
+     * the document.
+     *
+     * @param type
+     *            the requested format, JSON or YAML
+     * @param entityTag
+     *            the value of the {@code If-None-Match} header
+     * @return the response
+     */
+    public ValidatableResponse callEndpoint(String type, String entityTag) {
+        RequestSpecification request = given().header("If-None-Match", entityTag);
+
+        if ("JSON".equals(type)) {
+            request.accept(ContentType.JSON);
+        } else {
+            request.accept(ContentType.ANY);
+        }
+
+        return request.when().get("/openapi").then();
+    }
+
+    /**
+     * Call the /openapi endpoint and return the value of the {@code ETag} header of the response.
+     *
+     * @param type
+     *            the requested format, JSON or YAML
+     * @return the entity tag of the document
+     */
+    public String getEntityTag(String type) {
+        return callEndpoint(type).extract().header("ETag");
+    }
+
     /**
      * Lookup the object at the provided path in the response and if the object is a reference (contains a $ref
      * property), return the reference path. If the object is not a reference, return the input path.
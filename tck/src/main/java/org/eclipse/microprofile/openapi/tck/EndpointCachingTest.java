@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers the caching headers of the /openapi endpoint. It verifies that the document is served with a strong
+ * entity tag that is stable across requests and that conditional requests are answered with 304 Not Modified.
+ */
+public class EndpointCachingTest extends AppTestBase {
+
+    @Deployment(name = "caching", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "caching.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.petstore");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testEntityTag(String type) {
+        String entityTag = getEntityTag(type);
+
+        assertNotNull(entityTag, "The response is expected to contain an ETag header");
+        assertEquals(entityTag.charAt(0), '"', "The ETag header is expected to contain a strong entity tag");
+        assertEquals(getEntityTag(type), entityTag, "The entity tag is expected to be the same for each request");
+    }
+
+    @Test
+    public void testEntityTagPerFormat() {
+        assertNotEquals(getEntityTag("JSON"), getEntityTag("YAML"),
+                "The JSON and YAML documents are expected to have different entity tags");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testNotModified(String type) {
+        String entityTag = getEntityTag(type);
+        ValidatableResponse vr = callEndpoint(type, entityTag);
+
+        vr.statusCode(304);
+        vr.header("ETag", equalTo(entityTag));
+        assertEquals(vr.extract().asByteArray().length, 0, "A 304 response is not expected to contain a body");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testModified(String type) {
+        String entityTag = getEntityTag(type);
+        ValidatableResponse vr = callEndpoint(type, "\"mp-openapi-tck-stale\"");
+
+        vr.statusCode(200);
+        vr.header("ETag", equalTo(entityTag));
+        vr.header("ETag", not(startsWith("W/")));
+    }
+}
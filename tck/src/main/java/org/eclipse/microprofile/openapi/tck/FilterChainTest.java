@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers a list of filters registered with mp.openapi.filter. The filters must be applied in the listed
+ * order, and an element removed by one filter must not be passed to the following filters.
+ */
+public class FilterChainTest extends AppTestBase {
+    @Deployment(name = "airlinesFilteredChain", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesFilteredChain.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.filter")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml")
+                .addAsManifestResource("microprofile-config-filter-chain.properties",
+                        "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testFilterOrder(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.'/bookings/{id}'.get.summary", equalTo("chained - filterOperation - Get a booking with ID"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testFilterOpenAPIOrder(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.'/bookings/{id}'.put.summary", equalTo("chained - filterOpenAPI - Update a booking with ID"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testRemovedElementNotChained(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // Parameter named 'password' is removed by the first filter
+        vr.body("paths.'/user/login'.get.parameters", hasSize(1));
+        vr.body("$", not(hasKey("x-removed-parameter-filtered")));
+    }
+}
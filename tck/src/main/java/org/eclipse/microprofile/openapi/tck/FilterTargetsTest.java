@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers a filter that declares the types of elements it targets. Only the filter methods for the declared
+ * types may be called by the vendor framework.
+ */
+public class FilterTargetsTest extends AppTestBase {
+    @Deployment(name = "airlinesFilteredTargets", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesFilteredTargets.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.filter")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml")
+                .addAsManifestResource("microprofile-config-filter-targets.properties",
+                        "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testTargetFiltered(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.'/bookings/{id}'.get.summary", equalTo("filterOperation - Get a booking with ID"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testSchemaNotFiltered(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.'/streams'.post.responses.'201'.content.'application/json'.schema.description",
+                equalTo("subscription information"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testTagNotFiltered(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("tags.find { it.name == 'user' }.description", equalTo("Operations about user"));
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers the mp.openapi.model.lazy configuration property. The model may be built when it is first
+ * requested, but it must be built only once, even when first requested concurrently, and the document served must be
+ * the complete result of the processing rules. {@link AirlinesAppLazyModelTest} verifies that the document is identical
+ * to the document built eagerly.
+ */
+public class LazyModelTest extends AppTestBase {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Deployment(name = "airlinesLazy", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesLazy.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.reader")
+                .addAsManifestResource("microprofile-lazy.properties", "microprofile-config.properties");
+    }
+
+    // Runs first, so that its requests are the first accesses to the model
+    @Test
+    public void testConcurrentFirstAccess() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        List<String> documents = new ArrayList<>();
+
+        try {
+            List<Callable<String>> requests = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                requests.add(() -> callEndpoint("JSON").extract().asString());
+            }
+            for (Future<String> document : executor.invokeAll(requests)) {
+                documents.add(document.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (String document : documents) {
+            assertEquals(document, documents.get(0), "Each request is expected to receive the same document");
+        }
+
+        // The model reader is called once, regardless of the number of concurrent requests
+        callEndpoint("JSON").body("x-model-reader-calls", equalTo(1));
+    }
+
+    @Test(dataProvider = "formatProvider", dependsOnMethods = "testConcurrentFirstAccess")
+    public void testCompleteDocument(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("info.title", equalTo("Lazy Airlines API"));
+        vr.body("x-model-reader-calls", equalTo(1));
+        // Paths and components contributed by annotations are present
+        vr.body("paths", hasKey("/bookings"));
+        vr.body("paths", hasKey("/availability"));
+        vr.body("components.schemas", hasKey("Booking"));
+    }
+}
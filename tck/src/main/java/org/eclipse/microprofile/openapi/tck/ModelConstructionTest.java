@@ -33,6 +33,7 @@ import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 import java.beans.Introspector;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
@@ -84,6 +85,7 @@ import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
+import org.eclipse.microprofile.openapi.spi.OASFactoryResolver;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.testng.Arquillian;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
@@ -1732,6 +1734,90 @@ public class ModelConstructionTest extends Arquillian {
         processConstructible(Tag.class);
     }
 
+    @Test
+    public void resolverRegistrationTest() {
+        // The resolver registered for the application's class loader must survive garbage collection, so that the
+        // ServiceLoader lookup and the resolver's cached suppliers are not repeated. Only weak references are kept
+        // here, so that the test does not itself keep the resolver reachable.
+        final WeakReference<OASFactoryResolver> resolver = new WeakReference<>(OASFactoryResolver.instance());
+        final WeakReference<Supplier<Tag>> supplier =
+                new WeakReference<>(OASFactoryResolver.instance().supplierFor(Tag.class));
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        assertThat(OASFactoryResolver.instance(), sameInstance(resolver.get()));
+        assertThat(OASFactoryResolver.instance().supplierFor(Tag.class), sameInstance(supplier.get()));
+    }
+
+    @Test
+    public void snapshotTest() {
+        final Schema petSchema = OASFactory.createSchema()
+                .addType(Schema.SchemaType.OBJECT)
+                .addProperty("name", OASFactory.createSchema().addType(Schema.SchemaType.STRING));
+        final Operation getPet = OASFactory.createOperation()
+                .operationId("getPet")
+                .addTag("pets")
+                .responses(OASFactory.createAPIResponses()
+                        .addAPIResponse("200", OASFactory.createAPIResponse().description("A pet")));
+        final OpenAPI openAPI = OASFactory.createOpenAPI()
+                .openapi("3.1.0")
+                .info(OASFactory.createInfo().title("Pets").version("1.0"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets/{petId}", OASFactory.createPathItem().GET(getPet)))
+                .components(OASFactory.createComponents().addSchema("Pet", petSchema));
+
+        final OpenAPI snapshot = openAPI.snapshot();
+        assertNotNull(snapshot, "OpenAPI.snapshot() must not return null.");
+        assertNotSame(snapshot, openAPI, "OpenAPI.snapshot() is expected to return a copy of the model.");
+        assertTrue(OASFactory.isFrozen(snapshot), "The snapshot is expected to be frozen.");
+        assertFalse(OASFactory.isFrozen(openAPI), "The original model is not expected to be frozen.");
+        assertSame(snapshot.snapshot(), snapshot, "A snapshot of a snapshot is expected to be the same instance.");
+        assertSame(OASFactory.freeze(snapshot), snapshot, "Freezing a frozen model is expected to be a no-op.");
+
+        // The snapshot contains the same content as the original model
+        assertEquals(snapshot.getOpenapi(), "3.1.0");
+        assertEquals(snapshot.getInfo().getTitle(), "Pets");
+        final Operation frozenGetPet = snapshot.getPaths().getPathItem("/pets/{petId}").getGET();
+        assertEquals(frozenGetPet.getOperationId(), "getPet");
+        assertEquals(frozenGetPet.getTags(), Arrays.asList("pets"));
+        assertEquals(frozenGetPet.getResponses().getAPIResponse("200").getDescription(), "A pet");
+        final Schema frozenPetSchema = snapshot.getComponents().getSchemas().get("Pet");
+        assertEquals(frozenPetSchema.getType(), Arrays.asList(Schema.SchemaType.OBJECT));
+        assertEquals(frozenPetSchema.getProperties().get("name").getType(), Arrays.asList(Schema.SchemaType.STRING));
+
+        // Changes to the original model are not reflected by the snapshot
+        openAPI.getInfo().setTitle("Cats");
+        openAPI.getPaths().addPathItem("/cats", OASFactory.createPathItem());
+        getPet.setOperationId("getCat");
+        petSchema.addProperty("age", OASFactory.createSchema().addType(Schema.SchemaType.INTEGER));
+        assertEquals(snapshot.getInfo().getTitle(), "Pets");
+        assertFalse(snapshot.getPaths().hasPathItem("/cats"), "The snapshot is not expected to contain /cats");
+        assertEquals(frozenGetPet.getOperationId(), "getPet");
+        assertEquals(frozenPetSchema.getProperties().keySet(), Collections.singleton("name"));
+
+        // The snapshot cannot be modified
+        checkFrozen(() -> snapshot.setOpenapi("3.0.0"), "OpenAPI.setOpenapi");
+        checkFrozen(() -> snapshot.getInfo().setTitle("Cats"), "Info.setTitle");
+        checkFrozen(() -> snapshot.getPaths().addPathItem("/cats", OASFactory.createPathItem()),
+                "Paths.addPathItem");
+        checkFrozen(() -> snapshot.getPaths().getPathItems().remove("/pets/{petId}"), "Paths.getPathItems().remove");
+        checkFrozen(() -> frozenGetPet.addTag("cats"), "Operation.addTag");
+        checkFrozen(() -> frozenGetPet.getTags().add("cats"), "Operation.getTags().add");
+        checkFrozen(() -> frozenPetSchema.addProperty("age", OASFactory.createSchema()), "Schema.addProperty");
+        checkFrozen(() -> frozenPetSchema.set("minProperties", 1), "Schema.set");
+        checkFrozen(() -> snapshot.getComponents().getSchemas().clear(), "Components.getSchemas().clear");
+        checkFrozen(() -> snapshot.addExtension("x-frozen", Boolean.TRUE), "OpenAPI.addExtension");
+    }
+
+    private void checkFrozen(Runnable mutation, String description) {
+        try {
+            mutation.run();
+            fail(description + " is expected to throw UnsupportedOperationException for a frozen model.");
+        } catch (UnsupportedOperationException e) {
+            // Expected
+        }
+    }
+
     private <T extends Constructible> T processConstructible(Class<T> clazz) {
         return processConstructible(clazz, Collections.emptySet());
     }
@@ -1766,6 +1852,18 @@ public class ModelConstructionTest extends Arquillian {
                 "The return value of OASFactory.createObject() is expected to be an instance of: " + clazz.getName());
         assertNotSame(o2, o1, "OASFactory.createObject(" + clazz.getName()
                 + ") is expected to create a new object on each invocation.");
+        // Check that the resolver's cached supplier also creates an instance of the given Class.
+        final Supplier<T> supplier = OASFactoryResolver.instance().supplierFor(clazz);
+        assertNotNull(supplier, "The return value of OASFactoryResolver.supplierFor(" + clazz.getName()
+                + ") must not be null.");
+        assertSame(OASFactoryResolver.instance().supplierFor(clazz), supplier,
+                "OASFactoryResolver.supplierFor(" + clazz.getName() + ") is expected to return a cached supplier.");
+        final T o3 = supplier.get();
+        assertTrue(clazz.isInstance(o3),
+                "The supplier returned by OASFactoryResolver.supplierFor() is expected to create instances of: "
+                        + clazz.getName());
+        assertNotSame(supplier.get(), o3, "The supplier returned by OASFactoryResolver.supplierFor(" + clazz.getName()
+                + ") is expected to create a new object on each invocation.");
         return o1;
     }
 
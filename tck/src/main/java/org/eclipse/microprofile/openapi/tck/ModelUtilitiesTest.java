@@ -0,0 +1,753 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.PathItem.HttpMethod;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter.In;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter.Style;
+import org.eclipse.microprofile.openapi.util.CompactPropertyMap;
+import org.eclipse.microprofile.openapi.util.ComponentKey;
+import org.eclipse.microprofile.openapi.util.ComponentType;
+import org.eclipse.microprofile.openapi.util.ConfiguredSchemaRegistry;
+import org.eclipse.microprofile.openapi.util.ContributionTracker;
+import org.eclipse.microprofile.openapi.util.OperationIndex;
+import org.eclipse.microprofile.openapi.util.ParameterBindingPlan;
+import org.eclipse.microprofile.openapi.util.PathRouter;
+import org.eclipse.microprofile.openapi.util.ReferenceIndex;
+import org.eclipse.microprofile.openapi.util.SchemaDereferencer;
+import org.eclipse.microprofile.openapi.util.SchemaInterner;
+import org.eclipse.microprofile.openapi.util.SchemaValidator;
+import org.eclipse.microprofile.openapi.util.StringPool;
+import org.eclipse.microprofile.openapi.util.UsageIndex;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * This test covers the utilities of the {@code org.eclipse.microprofile.openapi.util} package, applied to models
+ * created by the implementation.
+ */
+public class ModelUtilitiesTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @Test
+    public void referenceIndexTest() {
+        Schema pet = OASFactory.createSchema().description("A pet");
+        Schema escaped = OASFactory.createSchema().description("A schema with an escaped name");
+        Parameter limit = OASFactory.createParameter().name("limit");
+        OpenAPI openAPI = OASFactory.createOpenAPI()
+                .components(OASFactory.createComponents()
+                        .addSchema("Pet", pet)
+                        .addSchema("a/b~c", escaped)
+                        .addParameter("limit", limit));
+
+        ReferenceIndex index = ReferenceIndex.of(openAPI);
+        assertEquals(index.size(), 3);
+        assertThat(index.resolve("#/components/schemas/Pet"), sameInstance(pet));
+        assertThat(index.resolve("#/components/schemas/a~1b~0c"), sameInstance(escaped));
+        assertThat(index.resolve("#/components/schemas/a%7E1b~0c"), sameInstance(escaped));
+        assertThat(index.resolve("#/components/parameters/limit", Parameter.class), sameInstance(limit));
+        assertNull(index.resolve("#/components/parameters/limit", Schema.class));
+        assertNull(index.resolve("#/components/schemas/Missing"));
+        assertNull(index.resolve("#/components/schemas/Pet/properties/name"));
+        assertNull(index.resolve("other.yaml#/components/schemas/Pet"));
+        assertFalse(index.contains("#/components/responses/Pet"));
+
+        // A reference is resolved in the section of its own type only
+        assertThat(index.resolve(OASFactory.createSchema().ref("Pet")), sameInstance(pet));
+        assertNull(index.resolve(OASFactory.createParameter().ref("#/components/schemas/Pet")));
+        assertThat(index.resolve(OASFactory.createParameter().ref("limit")), sameInstance(limit));
+
+        ComponentKey key = index.keyOf("#/components/schemas/a%7E1b~0c");
+        assertEquals(key.getType(), ComponentType.SCHEMAS);
+        assertEquals(key.getName(), "a/b~c");
+        assertEquals(key.getRef(), "#/components/schemas/a~1b~0c");
+        assertThat(index.keyOf("#/components/schemas/a~1b~0c"), sameInstance(key));
+        assertEquals(ComponentKey.parse("#/components/schemas/a~1b~0c"), key);
+        assertTrue(index.keys().contains(ComponentKey.of(ComponentType.PARAMETERS, "limit")));
+
+        assertEquals(ReferenceIndex.of(OASFactory.createOpenAPI()).size(), 0);
+    }
+
+    @Test
+    public void usageIndexTest() {
+        Operation operation = OASFactory.createOperation()
+                .requestBody(OASFactory.createRequestBody()
+                        .content(OASFactory.createContent()
+                                .addMediaType("application/json", OASFactory.createMediaType()
+                                        .schema(OASFactory.createSchema().ref("Booking")))))
+                .responses(OASFactory.createAPIResponses()
+                        .addAPIResponse("200", OASFactory.createAPIResponse().ref("BookingResponse")))
+                .addSecurityRequirement(OASFactory.createSecurityRequirement().addScheme("apiKey"));
+        OpenAPI openAPI = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/bookings", OASFactory.createPathItem().POST(operation)))
+                .components(OASFactory.createComponents()
+                        // Booking and Flight refer to each other
+                        .addSchema("Booking", OASFactory.createSchema()
+                                .addProperty("flight", OASFactory.createSchema().ref("Flight")))
+                        .addSchema("Flight", OASFactory.createSchema()
+                                .addProperty("bookings", OASFactory.createSchema()
+                                        .items(OASFactory.createSchema().ref("Booking"))))
+                        .addSchema("Pet", OASFactory.createSchema()
+                                .discriminator(OASFactory.createDiscriminator().addMapping("dog", "Dog")))
+                        .addSchema("Dog", OASFactory.createSchema())
+                        // Unused and Orphan are only used by each other
+                        .addSchema("Unused", OASFactory.createSchema().ref("Orphan"))
+                        .addSchema("Orphan", OASFactory.createSchema()
+                                .addAllOf(OASFactory.createSchema().ref("Unused")))
+                        .addResponse("BookingResponse", OASFactory.createAPIResponse()
+                                .content(OASFactory.createContent()
+                                        .addMediaType("application/json", OASFactory.createMediaType()
+                                                .schema(OASFactory.createSchema().ref("Pet")))))
+                        .addSecurityScheme("apiKey", OASFactory.createSecurityScheme())
+                        .addSecurityScheme("unusedKey", OASFactory.createSecurityScheme()));
+
+        ComponentKey booking = ComponentKey.of(ComponentType.SCHEMAS, "Booking");
+        ComponentKey flight = ComponentKey.of(ComponentType.SCHEMAS, "Flight");
+        UsageIndex usages = UsageIndex.of(openAPI);
+        assertThat(usages.getReferringComponents(booking), contains(flight));
+        assertThat(usages.getReferencedComponents(booking), contains(flight));
+        assertEquals(usages.getReferringOperations(booking).size(), 1);
+        assertThat(usages.getReferringOperations(booking).get(0), sameInstance(operation));
+        assertTrue(usages.getReferringOperations(flight).isEmpty());
+        assertTrue(usages.isReachable(ComponentKey.of(ComponentType.SCHEMAS, "Dog")));
+        assertTrue(usages.isReachable(ComponentKey.of(ComponentType.SECURITY_SCHEMES, "apiKey")));
+        assertThat(usages.getUnreachableComponents(), containsInAnyOrder(
+                ComponentKey.of(ComponentType.SCHEMAS, "Unused"),
+                ComponentKey.of(ComponentType.SCHEMAS, "Orphan"),
+                ComponentKey.of(ComponentType.SECURITY_SCHEMES, "unusedKey")));
+
+        assertEquals(UsageIndex.removeUnreachableComponents(openAPI).size(), 3);
+        assertThat(openAPI.getComponents().getSchemas().keySet(),
+                containsInAnyOrder("Booking", "Flight", "Pet", "Dog"));
+        assertThat(openAPI.getComponents().getSecuritySchemes().keySet(), contains("apiKey"));
+        assertTrue(UsageIndex.of(openAPI).getUnreachableComponents().isEmpty());
+    }
+
+    @Test
+    public void usageIndexDefsTest() {
+        // Airline is only referenced from a schema of $defs, which has no typed getter
+        Map<String, Schema> defs = new HashMap<>();
+        defs.put("carrier", OASFactory.createSchema().ref("Airline"));
+        OpenAPI openAPI = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/flights", OASFactory.createPathItem().GET(OASFactory.createOperation()
+                                .responses(OASFactory.createAPIResponses()
+                                        .addAPIResponse("200", OASFactory.createAPIResponse()
+                                                .content(OASFactory.createContent()
+                                                        .addMediaType("application/json", OASFactory.createMediaType()
+                                                                .schema(OASFactory.createSchema().ref("Flight")))))))))
+                .components(OASFactory.createComponents()
+                        .addSchema("Flight", OASFactory.createSchema()
+                                .set("$defs", defs)
+                                .addProperty("airline", OASFactory.createSchema().ref("#/$defs/carrier")))
+                        .addSchema("Airline", OASFactory.createSchema())
+                        .addSchema("Unused", OASFactory.createSchema()));
+
+        ComponentKey airline = ComponentKey.of(ComponentType.SCHEMAS, "Airline");
+        UsageIndex usages = UsageIndex.of(openAPI);
+        assertTrue(usages.isReachable(airline));
+        assertThat(usages.getReferringComponents(airline), contains(ComponentKey.of(ComponentType.SCHEMAS, "Flight")));
+
+        assertEquals(UsageIndex.removeUnreachableComponents(openAPI).size(), 1);
+        assertThat(openAPI.getComponents().getSchemas().keySet(), containsInAnyOrder("Flight", "Airline"));
+    }
+
+    @Test
+    public void schemaDereferencerTest() {
+        Schema airline = OASFactory.createSchema().description("An airline");
+        Schema booking = OASFactory.createSchema()
+                .addProperty("flight", OASFactory.createSchema().ref("Flight"));
+        Schema flight = OASFactory.createSchema()
+                .addProperty("airline", OASFactory.createSchema().ref("Airline"))
+                .addProperty("bookings", OASFactory.createSchema()
+                        .items(OASFactory.createSchema().ref("Booking")));
+        OpenAPI openAPI = OASFactory.createOpenAPI()
+                .components(OASFactory.createComponents()
+                        .addSchema("Airline", airline)
+                        .addSchema("Booking", booking)
+                        .addSchema("Flight", flight));
+
+        SchemaDereferencer dereferencer = SchemaDereferencer.of(openAPI);
+        Schema bookingView = dereferencer.dereference(ComponentKey.of(ComponentType.SCHEMAS, "Booking"));
+        Schema flightView = bookingView.getProperties().get("flight");
+        assertThat(dereferencer.dereference(ComponentKey.of(ComponentType.SCHEMAS, "Flight")),
+                sameInstance(flightView));
+        // Schemas without references are shared with the model, not copied
+        assertThat(flightView.getProperties().get("airline"), sameInstance(airline));
+        // The reference closing the cycle is kept
+        assertEquals(flightView.getProperties().get("bookings").getItems().getRef(), "#/components/schemas/Booking");
+        assertNull(bookingView.getRef());
+        // The model itself is not modified
+        assertEquals(booking.getProperties().get("flight").getRef(), "#/components/schemas/Flight");
+
+        Schema sibling = OASFactory.createSchema().ref("Airline").description("The operating airline");
+        Schema siblingView = dereferencer.dereference(sibling);
+        assertNull(siblingView.getRef());
+        assertEquals(siblingView.getDescription(), "The operating airline");
+        assertThat(siblingView.getAllOf(), contains(airline));
+        assertThat(dereferencer.dereference(sibling), sameInstance(siblingView));
+    }
+
+    @Test
+    public void schemaValidatorTest() {
+        Schema booking = OASFactory.createSchema()
+                .addType(SchemaType.OBJECT)
+                .addProperty("code", OASFactory.createSchema()
+                        .addType(SchemaType.STRING)
+                        .pattern("^[A-Z]{3}[0-9]+$")
+                        .maxLength(8))
+                .addProperty("seats", OASFactory.createSchema()
+                        .addType(SchemaType.INTEGER)
+                        .minimum(BigDecimal.ONE)
+                        .exclusiveMaximum(new BigDecimal("9.5")))
+                .addProperty("price", OASFactory.createSchema()
+                        .addType(SchemaType.NUMBER)
+                        .multipleOf(new BigDecimal("0.25")))
+                .addProperty("tags", OASFactory.createSchema()
+                        .addType(SchemaType.ARRAY)
+                        .uniqueItems(true)
+                        .items(OASFactory.createSchema().addType(SchemaType.STRING)))
+                .addProperty("next", OASFactory.createSchema().ref("Booking"))
+                .addRequired("code")
+                .addRequired("seats")
+                .addDependentRequired("price", Collections.singletonList("tags"))
+                .unevaluatedProperties(OASFactory.createSchema().booleanSchema(false));
+        OpenAPI openAPI = OASFactory.createOpenAPI()
+                .components(OASFactory.createComponents().addSchema("Booking", booking));
+        SchemaValidator validator = SchemaValidator.compile(booking, ReferenceIndex.of(openAPI));
+
+        Map<String, Object> valid = new HashMap<>();
+        valid.put("code", "ABC123");
+        valid.put("seats", 9);
+        assertTrue(validator.isValid(valid));
+        assertTrue(validator.isValid(with(valid, "seats", 2.0)));
+        assertTrue(validator.isValid(with(with(valid, "price", 10.75), "tags", Arrays.asList("a", "b"))));
+        assertTrue(validator.isValid(with(valid, "next", valid)));
+
+        assertFalse(validator.isValid(Collections.singletonMap("code", "ABC123")), "required");
+        assertFalse(validator.isValid(with(valid, "code", "abc123")), "pattern");
+        assertFalse(validator.isValid(with(valid, "code", "ABC123456")), "maxLength");
+        assertFalse(validator.isValid(with(valid, "seats", 10)), "exclusiveMaximum");
+        assertFalse(validator.isValid(with(valid, "seats", 0)), "minimum");
+        assertFalse(validator.isValid(with(valid, "seats", 2.5)), "type");
+        assertFalse(validator.isValid(with(with(valid, "price", 10.1), "tags", Arrays.asList("a"))), "multipleOf");
+        assertFalse(validator.isValid(with(valid, "price", 10.75)), "dependentRequired");
+        assertFalse(validator.isValid(with(valid, "tags", Arrays.asList("a", "a"))), "uniqueItems");
+        assertFalse(validator.isValid(with(valid, "other", true)), "unevaluatedProperties");
+        assertFalse(validator.isValid(with(valid, "next", Collections.emptyMap())), "$ref");
+        assertFalse(validator.isValid("ABC123"), "type");
+
+        SchemaValidator conditional = SchemaValidator.compile(OASFactory.createSchema()
+                .ifSchema(OASFactory.createSchema().addPrefixItem(OASFactory.createSchema().constValue("id")))
+                .thenSchema(OASFactory.createSchema().maxItems(2))
+                .elseSchema(OASFactory.createSchema()
+                        .contains(OASFactory.createSchema().addType(SchemaType.NULL))));
+        assertTrue(conditional.isValid(Arrays.asList("id", 1)));
+        assertFalse(conditional.isValid(Arrays.asList("id", 1, 2)));
+        assertTrue(conditional.isValid(Arrays.asList("name", null)));
+        assertFalse(conditional.isValid(Arrays.asList("name", 1)));
+    }
+
+    @Test
+    public void schemaValidatorDecimalTest() {
+        SchemaValidator maximum = SchemaValidator.compile(OASFactory.createSchema().maximum(new BigDecimal("0.1")));
+        assertTrue(maximum.isValid(0.1d));
+        assertTrue(maximum.isValid(0.1f));
+        assertFalse(maximum.isValid(0.10001d));
+
+        SchemaValidator exclusiveMinimum = SchemaValidator.compile(OASFactory.createSchema()
+                .exclusiveMinimum(new BigDecimal("0.1")));
+        assertFalse(exclusiveMinimum.isValid(0.1d));
+        assertTrue(exclusiveMinimum.isValid(0.10001d));
+
+        SchemaValidator multipleOf = SchemaValidator.compile(OASFactory.createSchema()
+                .multipleOf(new BigDecimal("0.1")));
+        assertTrue(multipleOf.isValid(0.3d));
+        assertTrue(multipleOf.isValid(3.0d));
+        assertFalse(multipleOf.isValid(0.35d));
+
+        SchemaValidator wholeMultipleOf = SchemaValidator.compile(OASFactory.createSchema()
+                .multipleOf(new BigDecimal("3")));
+        assertTrue(wholeMultipleOf.isValid(9.0d));
+        assertFalse(wholeMultipleOf.isValid(10.0d));
+
+        SchemaValidator enumeration = SchemaValidator.compile(OASFactory.createSchema()
+                .addEnumeration(new BigDecimal("0.1")));
+        assertTrue(enumeration.isValid(0.1d));
+        assertTrue(enumeration.isValid(new BigDecimal("0.10")));
+        assertFalse(enumeration.isValid(0.2d));
+
+        SchemaValidator unique = SchemaValidator.compile(OASFactory.createSchema().uniqueItems(true));
+        assertFalse(unique.isValid(Arrays.asList(0.1d, new BigDecimal("0.1"))));
+    }
+
+    @Test
+    public void parameterBindingPlanTest() {
+        Schema integers = OASFactory.createSchema()
+                .addType(SchemaType.ARRAY)
+                .items(OASFactory.createSchema().addType(SchemaType.INTEGER));
+        Schema filter = OASFactory.createSchema()
+                .addType(SchemaType.OBJECT)
+                .addProperty("color", OASFactory.createSchema().addType(SchemaType.STRING))
+                .addProperty("size", OASFactory.createSchema().addType(SchemaType.INTEGER));
+        PathItem pathItem = OASFactory.createPathItem()
+                .addParameter(OASFactory.createParameter().name("petId").in(In.PATH)
+                        .schema(OASFactory.createSchema().addType(SchemaType.INTEGER)))
+                .addParameter(OASFactory.createParameter().ref("limit"));
+        Operation operation = OASFactory.createOperation()
+                .addParameter(OASFactory.createParameter().name("coords").in(In.PATH)
+                        .style(Style.MATRIX).schema(integers))
+                .addParameter(OASFactory.createParameter().name("ids").in(In.QUERY)
+                        .schema(integers))
+                .addParameter(OASFactory.createParameter().name("names").in(In.QUERY)
+                        .style(Style.SPACEDELIMITED).explode(false)
+                        .schema(OASFactory.createSchema().addType(SchemaType.ARRAY)))
+                .addParameter(OASFactory.createParameter().name("filter").in(In.QUERY)
+                        .style(Style.DEEPOBJECT).schema(filter))
+                .addParameter(OASFactory.createParameter().name("X-Trace").in(In.HEADER)
+                        .schema(OASFactory.createSchema().addType(SchemaType.STRING)))
+                .addParameter(OASFactory.createParameter().name("debug").in(In.COOKIE)
+                        .schema(OASFactory.createSchema().addType(SchemaType.BOOLEAN)));
+        OpenAPI openAPI = OASFactory.createOpenAPI()
+                .components(OASFactory.createComponents()
+                        .addParameter("limit", OASFactory.createParameter().name("limit").in(In.QUERY)
+                                .schema(OASFactory.createSchema().addType(SchemaType.INTEGER))));
+
+        ParameterBindingPlan plan = ParameterBindingPlan.compile("/pets/{petId}/at/{coords}", pathItem, operation,
+                ReferenceIndex.of(openAPI));
+        assertEquals(plan.getParameters().size(), 8);
+        assertTrue(plan.matches("/pets/12/at/;coords=1,2"));
+        assertFalse(plan.matches("/pets/12"));
+        assertFalse(plan.matches("/pets/12/from/;coords=1,2"));
+
+        Map<String, List<String>> query = new HashMap<>();
+        query.put("ids", Arrays.asList("3", "4"));
+        query.put("names", Collections.singletonList("Fido Rex"));
+        query.put("filter[color]", Collections.singletonList("red"));
+        query.put("filter[size]", Collections.singletonList("2"));
+        query.put("limit", Collections.singletonList("10"));
+        Object[] values = plan.bind(new ParameterBindingPlan.Request() {
+            @Override
+            public String getPath() {
+                return "/pets/12/at/;coords=1,2";
+            }
+
+            @Override
+            public List<String> getQueryParameter(String name) {
+                return query.get(name);
+            }
+
+            @Override
+            public Set<String> getQueryParameterNames() {
+                return query.keySet();
+            }
+
+            @Override
+            public List<String> getHeader(String name) {
+                return "x-trace".equalsIgnoreCase(name) ? Collections.singletonList("abc") : null;
+            }
+
+            @Override
+            public String getCookie(String name) {
+                return "debug".equals(name) ? "true" : null;
+            }
+        });
+
+        assertEquals(values[plan.indexOf(In.PATH, "petId")], 12L);
+        assertEquals(values[plan.indexOf(In.QUERY, "limit")], 10L);
+        assertEquals(values[plan.indexOf(In.PATH, "coords")], Arrays.asList(1L, 2L));
+        assertEquals(values[plan.indexOf(In.QUERY, "ids")], Arrays.asList(3L, 4L));
+        assertEquals(values[plan.indexOf(In.QUERY, "names")], Arrays.asList("Fido", "Rex"));
+        Map<String, Object> expectedFilter = new HashMap<>();
+        expectedFilter.put("color", "red");
+        expectedFilter.put("size", 2L);
+        assertEquals(values[plan.indexOf(In.QUERY, "filter")], expectedFilter);
+        assertEquals(values[plan.indexOf(In.HEADER, "x-trace")], "abc");
+        assertEquals(values[plan.indexOf(In.COOKIE, "debug")], Boolean.TRUE);
+    }
+
+    @Test(expectedExceptions = {IllegalArgumentException.class})
+    public void parameterBindingPlanMissingPathParameterTest() {
+        ParameterBindingPlan.compile("/pets", null, OASFactory.createOperation()
+                .addParameter(OASFactory.createParameter().name("petId").in(In.PATH)));
+    }
+
+    @Test(expectedExceptions = {IllegalArgumentException.class})
+    public void parameterBindingPlanHeaderWithoutNameTest() {
+        ParameterBindingPlan.compile("/pets", null, OASFactory.createOperation()
+                .addParameter(OASFactory.createParameter().in(In.HEADER)));
+    }
+
+    @Test
+    public void pathRouterTest() {
+        Operation listPets = OASFactory.createOperation().operationId("listPets");
+        Operation getPet = OASFactory.createOperation().operationId("getPet");
+        Operation getMyPets = OASFactory.createOperation().operationId("getMyPets");
+        Operation getOwner = OASFactory.createOperation().operationId("getOwner");
+        Operation petCreated = OASFactory.createOperation().operationId("petCreated");
+        OpenAPI openAPI = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets", OASFactory.createPathItem().GET(listPets))
+                        .addPathItem("/pets/{petId}", OASFactory.createPathItem().GET(getPet))
+                        .addPathItem("/pets/mine", OASFactory.createPathItem().GET(getMyPets))
+                        .addPathItem("/pets/{id}/owners/{ownerId}", OASFactory.createPathItem().GET(getOwner)))
+                .addWebhook("petCreated", OASFactory.createPathItem().POST(petCreated));
+
+        PathRouter router = PathRouter.of(openAPI);
+        assertEquals(router.size(), 4);
+        assertThat(router.match("/pets").getOperation(HttpMethod.GET), sameInstance(listPets));
+        assertThat(router.match("/pets/mine").getOperation(HttpMethod.GET), sameInstance(getMyPets));
+
+        PathRouter.Match match = router.match("/pets/12");
+        assertEquals(match.getTemplate(), "/pets/{petId}");
+        assertThat(match.getOperation(HttpMethod.GET), sameInstance(getPet));
+        assertNull(match.getOperation(HttpMethod.DELETE));
+        assertEquals(match.getVariable("petId"), "12");
+
+        match = router.match("/pets/12/owners/7", HttpMethod.GET);
+        assertThat(match.getOperation(HttpMethod.GET), sameInstance(getOwner));
+        Map<String, String> variables = new HashMap<>();
+        variables.put("id", "12");
+        variables.put("ownerId", "7");
+        assertEquals(match.getVariables(), variables);
+
+        assertNull(router.match("/pets/12", HttpMethod.DELETE));
+        assertNull(router.match("/pets/"));
+        assertNull(router.match("/pets/12/owners"));
+        assertNull(router.match("/people"));
+
+        PathRouter webhooks = PathRouter.of(openAPI.getWebhooks());
+        assertThat(webhooks.match("petCreated").getOperation(HttpMethod.POST), sameInstance(petCreated));
+    }
+
+    @Test
+    public void operationIndexTest() {
+        Operation listPets = OASFactory.createOperation().operationId("listPets").addTag("pets");
+        Operation createPet = OASFactory.createOperation().operationId("createPet").addTag("pets").addTag("admin");
+        Operation petCreated = OASFactory.createOperation().operationId("petCreated").addTag("events");
+        OpenAPI openAPI = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets", OASFactory.createPathItem().GET(listPets).POST(createPet))
+                        .addPathItem("/health", OASFactory.createPathItem().GET(OASFactory.createOperation())))
+                .addWebhook("petCreated", OASFactory.createPathItem().POST(petCreated));
+
+        OperationIndex index = OperationIndex.of(openAPI);
+        assertThat(index.getOperation("createPet"), sameInstance(createPet));
+        assertThat(index.getOperation("petCreated"), sameInstance(petCreated));
+        assertNull(index.getOperation("deletePet"));
+        assertThat(index.getOperationIds(), containsInAnyOrder("listPets", "createPet", "petCreated"));
+        assertThat(index.getOperationsByTag("pets"), containsInAnyOrder(listPets, createPet));
+        assertThat(index.getOperationsByTag("admin"), contains(createPet));
+        assertTrue(index.getOperationsByTag("unknown").isEmpty());
+        assertThat(index.getTags(), containsInAnyOrder("pets", "admin", "events"));
+
+        assertThat(openAPI.findOperation("listPets"), sameInstance(listPets));
+        assertThat(openAPI.findOperation("petCreated"), sameInstance(petCreated));
+        assertNull(openAPI.findOperation("deletePet"));
+        assertThat(openAPI.getOperationsByTag("pets"), containsInAnyOrder(listPets, createPet));
+        assertTrue(openAPI.getOperationsByTag("unknown").isEmpty());
+    }
+
+    @Test(expectedExceptions = {IllegalArgumentException.class})
+    public void operationIndexDuplicateTest() {
+        OperationIndex.of(OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation().operationId("pets")))
+                        .addPathItem("/pets/{petId}", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation().operationId("pets")))));
+    }
+
+    @Test
+    public void compactPropertyMapTest() {
+        CompactPropertyMap map = new CompactPropertyMap();
+        Map<String, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put("x-" + i, i);
+            expected.put("x-" + i, i);
+        }
+        map.put(new String("type"), "object");
+        expected.put("type", "object");
+        map.put("description", null);
+        expected.put("description", null);
+
+        assertEquals(map.put("x-1", "one"), 1);
+        expected.put("x-1", "one");
+        assertEquals(map.remove("x-5"), 5);
+        expected.remove("x-5");
+        Iterator<Map.Entry<String, Object>> entries = map.entrySet().iterator();
+        entries.next();
+        entries.remove();
+        expected.remove("x-0");
+        map.trimToSize();
+
+        assertEquals(map, expected);
+        assertEquals(expected, map);
+        assertEquals(map.hashCode(), expected.hashCode());
+        assertEquals(map.size(), expected.size());
+        assertThat(map.keySet(), contains(expected.keySet().toArray()));
+        assertTrue(map.containsKey("description"));
+        assertNull(map.get("description"));
+        assertEquals(map.get("type"), "object");
+        assertFalse(map.containsKey("x-5"));
+        assertEquals(new CompactPropertyMap(expected), map);
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void stringPoolTest() {
+        StringPool pool = StringPool.create(2);
+        String json = new String("application/json");
+        assertThat(pool.intern(json), sameInstance(json));
+        assertThat(pool.intern(new String("application/json")), sameInstance(json));
+        String ok = new String("200");
+        assertThat(pool.intern(ok), sameInstance(ok));
+        assertThat(pool.intern(new String("200")), sameInstance(ok));
+        assertEquals(pool.size(), 2);
+
+        // The pool is full, other strings are returned as is
+        String notFound = new String("404");
+        assertThat(pool.intern(notFound), sameInstance(notFound));
+        assertEquals(pool.intern(new String("404")), "404");
+        assertEquals(pool.size(), 2);
+        assertNull(pool.intern(null));
+
+        pool.clear();
+        assertEquals(pool.size(), 0);
+        assertThat(pool.intern(notFound), sameInstance(notFound));
+
+        String ref = StringPool.shared().intern(new String("#/components/schemas/Pet"));
+        assertThat(StringPool.shared().intern(new String("#/components/schemas/Pet")), sameInstance(ref));
+    }
+
+    @Test(expectedExceptions = {IllegalArgumentException.class})
+    public void stringPoolNegativeSizeTest() {
+        StringPool.create(-1);
+    }
+
+    @Test
+    public void schemaInternerTest() {
+        Schema a = OASFactory.createSchema().addType(SchemaType.OBJECT)
+                .addProperty("createdAt", OASFactory.createSchema().addType(SchemaType.STRING).format("date-time"))
+                .addProperty("count", OASFactory.createSchema().addType(SchemaType.INTEGER));
+        Schema b = OASFactory.createSchema().addType(SchemaType.OBJECT)
+                .addProperty("count", OASFactory.createSchema().addType(SchemaType.INTEGER))
+                .addProperty("createdAt", OASFactory.createSchema().addType(SchemaType.STRING).format("date-time"));
+        Schema c = OASFactory.createSchema().addType(SchemaType.ARRAY)
+                .items(OASFactory.createSchema().addType(SchemaType.STRING).format("date-time"));
+
+        assertTrue(SchemaInterner.structurallyEquals(a, b));
+        assertEquals(SchemaInterner.structuralHashCode(a), SchemaInterner.structuralHashCode(b));
+        assertFalse(SchemaInterner.structurallyEquals(a, c));
+        assertFalse(SchemaInterner.structurallyEquals(a, null));
+
+        SchemaInterner interner = SchemaInterner.create();
+        Schema internedA = interner.intern(a);
+        Schema internedB = interner.intern(b);
+        Schema internedC = interner.intern(c);
+        assertThat(internedB, sameInstance(internedA));
+        assertThat(internedC.getItems(), sameInstance(internedA.getProperties().get("createdAt")));
+        assertThat(interner.intern(internedA), sameInstance(internedA));
+        assertEquals(interner.size(), 4);
+        assertTrue(SchemaInterner.structurallyEquals(internedA, a));
+        assertTrue(OASFactory.isFrozen(internedA));
+        assertTrue(OASFactory.isFrozen(internedC.getItems()));
+        assertNull(interner.intern(null));
+
+        // Interned schemas remain shared once the model containing them is frozen
+        Schema frozen = OASFactory.freeze(OASFactory.createSchema().addAllOf(internedA).addAllOf(internedC));
+        assertThat(frozen.getAllOf().get(0), sameInstance(internedA));
+        assertThat(frozen.getAllOf().get(1), sameInstance(internedC));
+
+        // An input is looked up by its current properties, not by the result of a previous call
+        Schema timestamp = OASFactory.createSchema().addType(SchemaType.STRING).format("date-time");
+        Schema internedTimestamp = interner.intern(timestamp);
+        assertThat(internedTimestamp, sameInstance(internedA.getProperties().get("createdAt")));
+        timestamp.format("date");
+        Schema internedDate = interner.intern(timestamp);
+        assertThat(internedDate, not(sameInstance(internedTimestamp)));
+        assertEquals(internedDate.getFormat(), "date");
+        assertEquals(internedTimestamp.getFormat(), "date-time");
+    }
+
+    @Test
+    public void schemaInternerBooleanSchemaTest() {
+        Schema trueSchema = OASFactory.createSchema().booleanSchema(true);
+        Schema falseSchema = OASFactory.createSchema().booleanSchema(false);
+        Schema empty = OASFactory.createSchema();
+        assertFalse(SchemaInterner.structurallyEquals(trueSchema, falseSchema));
+        assertFalse(SchemaInterner.structurallyEquals(falseSchema, empty));
+
+        SchemaInterner interner = SchemaInterner.create();
+        Schema internedTrue = interner.intern(trueSchema);
+        Schema internedFalse = interner.intern(falseSchema);
+        Schema internedEmpty = interner.intern(empty);
+        assertThat(internedFalse, not(sameInstance(internedTrue)));
+        assertThat(internedEmpty, not(sameInstance(internedTrue)));
+        assertThat(internedEmpty, not(sameInstance(internedFalse)));
+        assertEquals(internedTrue.getBooleanSchema(), Boolean.TRUE);
+        assertEquals(internedFalse.getBooleanSchema(), Boolean.FALSE);
+        assertNull(internedEmpty.getBooleanSchema());
+        assertThat(interner.intern(OASFactory.createSchema().booleanSchema(false)), sameInstance(internedFalse));
+
+        Schema closed = interner.intern(OASFactory.createSchema().addType(SchemaType.OBJECT)
+                .additionalPropertiesSchema(OASFactory.createSchema().booleanSchema(false)));
+        assertEquals(closed.getAdditionalPropertiesSchema().getBooleanSchema(), Boolean.FALSE);
+        assertThat(closed.getAdditionalPropertiesSchema(), sameInstance(internedFalse));
+    }
+
+    @Test
+    public void configuredSchemaRegistryTest() {
+        Map<String, String> config = new HashMap<>();
+        config.put(OASConfig.SCHEMA_PREFIX + "java.time.Instant",
+                "{ \"name\": \"EpochSeconds\", \"type\": \"number\", \"format\": \"int64\" }");
+        config.put(OASConfig.SCHEMA_PREFIX + "java.util.UUID", "{ \"type\": \"string\", \"format\": \"uuid\" }");
+        config.put(OASConfig.SCAN_DISABLE, "false");
+        ConfiguredSchemaRegistry registry = ConfiguredSchemaRegistry.of(config.keySet(), config::get);
+
+        assertThat(registry.getClassNames(), containsInAnyOrder("java.time.Instant", "java.util.UUID"));
+        assertTrue(registry.contains("java.util.UUID"));
+        assertFalse(registry.contains("java.util.Date"));
+        assertNull(registry.getSchema("java.util.Date"));
+        assertNull(registry.getSchemaName("java.util.Date"));
+
+        Schema instant = registry.getSchema("java.time.Instant");
+        assertEquals(instant.getType(), Collections.singletonList(SchemaType.NUMBER));
+        assertEquals(instant.getFormat(), "int64");
+        assertNull(instant.get("name"));
+        assertEquals(registry.getSchemaName("java.time.Instant"), "EpochSeconds");
+        assertTrue(OASFactory.isFrozen(instant));
+        // Every use of the configured class shares the schema parsed once
+        for (int i = 0; i < 10; i++) {
+            assertThat(registry.getSchema("java.time.Instant"), sameInstance(instant));
+        }
+
+        assertEquals(registry.getSchema("java.util.UUID").getFormat(), "uuid");
+        assertNull(registry.getSchemaName("java.util.UUID"));
+    }
+
+    @Test
+    public void contributionTrackerTest() {
+        ContributionTracker tracker = ContributionTracker.create();
+        ComponentKey pet = ComponentKey.of(ComponentType.SCHEMAS, "Pet");
+        ComponentKey order = ComponentKey.of(ComponentType.SCHEMAS, "Order");
+
+        ContributionTracker.Changes changes = tracker.put("com.example.PetResource", OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets", OASFactory.createPathItem().GET(OASFactory.createOperation())))
+                .components(OASFactory.createComponents().addSchema("Pet", OASFactory.createSchema())));
+        assertThat(changes.getPaths(), contains("/pets"));
+        assertThat(changes.getComponents(), contains(pet));
+        tracker.put("com.example.AdminResource", OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets", OASFactory.createPathItem().DELETE(OASFactory.createOperation())))
+                .components(OASFactory.createComponents().addSchema("Pet", OASFactory.createSchema())));
+
+        assertThat(tracker.getClassNames(), containsInAnyOrder("com.example.PetResource", "com.example.AdminResource"));
+        assertThat(tracker.getContributors("/pets"), contains("com.example.AdminResource", "com.example.PetResource"));
+        assertThat(tracker.getContributors(pet), contains("com.example.AdminResource", "com.example.PetResource"));
+        assertTrue(tracker.getContributors("/orders").isEmpty());
+
+        // A changed class affects what it contributed before and after the change
+        changes = tracker.put("com.example.PetResource", OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/orders", OASFactory.createPathItem().GET(OASFactory.createOperation())))
+                .components(OASFactory.createComponents().addSchema("Order", OASFactory.createSchema())));
+        assertThat(changes.getPaths(), containsInAnyOrder("/pets", "/orders"));
+        assertThat(changes.getComponents(), containsInAnyOrder(pet, order));
+        assertThat(tracker.getContributors("/pets"), contains("com.example.AdminResource"));
+        assertThat(tracker.getContributors("/orders"), contains("com.example.PetResource"));
+        assertThat(tracker.getContributions(Collections.singleton("com.example.AdminResource")).getPaths(),
+                contains("/pets"));
+
+        changes = tracker.remove("com.example.AdminResource");
+        assertThat(changes.getPaths(), contains("/pets"));
+        assertTrue(tracker.getContributors("/pets").isEmpty());
+        assertTrue(tracker.getContributors(pet).isEmpty());
+        assertTrue(tracker.remove("com.example.AdminResource").isEmpty());
+
+        // Tags and webhooks are tracked by name
+        changes = tracker.put("com.example.EventResource", OASFactory.createOpenAPI()
+                .addTag(OASFactory.createTag().name("events"))
+                .addWebhook("petAdded", OASFactory.createPathItem().POST(OASFactory.createOperation())));
+        assertThat(changes.getTags(), contains("events"));
+        assertThat(changes.getWebhooks(), contains("petAdded"));
+        assertFalse(changes.isFullBuildRequired());
+        tracker.put("com.example.OrderEventResource", OASFactory.createOpenAPI()
+                .addTag(OASFactory.createTag().name("events")));
+        assertThat(tracker.getTagContributors("events"),
+                contains("com.example.EventResource", "com.example.OrderEventResource"));
+        assertThat(tracker.getWebhookContributors("petAdded"), contains("com.example.EventResource"));
+        changes = tracker.remove("com.example.EventResource");
+        assertThat(changes.getTags(), contains("events"));
+        assertThat(changes.getWebhooks(), contains("petAdded"));
+        assertThat(tracker.getTagContributors("events"), contains("com.example.OrderEventResource"));
+        assertTrue(tracker.getWebhookContributors("petAdded").isEmpty());
+
+        // Elements other than paths, components, tags and webhooks are not tracked
+        changes = tracker.put("com.example.PetApplication", OASFactory.createOpenAPI()
+                .info(OASFactory.createInfo().title("Pets").version("1.0")));
+        assertTrue(changes.isFullBuildRequired());
+        assertFalse(changes.isEmpty());
+        assertTrue(tracker.remove("com.example.PetApplication").isFullBuildRequired());
+        assertFalse(tracker.getContributions(Collections.singleton("com.example.PetResource")).isFullBuildRequired());
+    }
+
+    private static Map<String, Object> with(Map<String, Object> map, String name, Object value) {
+        Map<String, Object> result = new HashMap<>(map);
+        result.put(name, value);
+        return result;
+    }
+}
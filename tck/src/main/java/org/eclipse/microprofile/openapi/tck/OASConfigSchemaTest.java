@@ -19,7 +19,10 @@ package org.eclipse.microprofile.openapi.tck;
 import static org.eclipse.microprofile.openapi.tck.utils.TCKMatchers.itemOrSingleton;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
 
@@ -53,6 +56,18 @@ public class OASConfigSchemaTest extends AppTestBase {
                 anyOf(epochSecondsSchema(), epochSecondsRef()));
     }
 
+    @Test(dataProvider = "formatProvider")
+    public void testSchemaConfigShared(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        // Pet and its subclasses all have a property of the configured type, which uses the single configured schema
+        String schemasWithInstant = "components.schemas.findAll { it.value.properties?.birthInstant != null }";
+        vr.body(schemasWithInstant + ".keySet()", hasItem("Lizard"));
+        vr.body(schemasWithInstant + ".collect { it.value.properties.birthInstant }",
+                everyItem(anyOf(epochSecondsSchema(), epochSecondsRef())));
+        vr.body("components.schemas.findAll { it.value.title == 'Epoch Seconds' }.keySet()", contains("EpochSeconds"));
+    }
+
     private Matcher<Map<? extends String, ?>> epochSecondsSchema() {
         return Matchers.<Map<? extends String, ?>>allOf(
                 aMapWithSize(4),
@@ -21,6 +21,7 @@ import java.util.Map;
 import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.info.License;
+import org.eclipse.microprofile.openapi.spi.OASFactoryResolver;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.testng.Arquillian;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
@@ -94,6 +95,12 @@ public class OASFactoryErrorTest extends Arquillian {
         final Object o = OASFactory.createObject(null);
     }
 
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void nullSupplierTest() {
+        @SuppressWarnings("unused")
+        final Object o = OASFactoryResolver.instance().supplierFor(null);
+    }
+
     @Test(expectedExceptions = {IllegalArgumentException.class})
     public void baseInterfaceTest() {
         @SuppressWarnings("unused")
@@ -17,15 +17,26 @@ package org.eclipse.microprofile.openapi.tck;
 
 import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.hasKey;
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.openapi.OASConfig;
 import org.eclipse.microprofile.openapi.apps.scanconfig.ScanConfigApplication;
 import org.eclipse.microprofile.openapi.apps.scanconfig.a.AResource;
 import org.eclipse.microprofile.openapi.apps.scanconfig.a.b.BResource;
 import org.eclipse.microprofile.openapi.apps.scanconfig.a.b.c.CResource;
+import org.eclipse.microprofile.openapi.apps.scanconfig.x.XResource;
 import org.eclipse.microprofile.openapi.apps.scanconfig.x.y.YResource;
 import org.eclipse.microprofile.openapi.tck.utils.ConfigAsset;
+import org.eclipse.microprofile.openapi.util.ScanFilter;
 import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
 import org.testng.annotations.Test;
@@ -238,6 +249,109 @@ public class OASScanConfigTests {
         }
     }
 
+    /**
+     * Verifies that {@link ScanFilter} applies the scan rules in the same way as the configurations of the other tests.
+     */
+    public static class ScanFilterRules extends Arquillian {
+
+        private static final List<Class<?>> RESOURCES = Arrays.asList(AResource.class, BResource.class,
+                CResource.class, XResource.class, YResource.class);
+
+        @Deployment
+        public static WebArchive deployment() {
+            return ShrinkWrap.create(WebArchive.class, "scanFilterRules.war")
+                    .addPackages(true, ScanConfigApplication.class.getPackage());
+        }
+
+        @Test
+        public void testNoRules() {
+            assertScanned(ScanFilter.of(null, null, null, null),
+                    AResource.class, BResource.class, CResource.class, XResource.class, YResource.class);
+        }
+
+        @Test
+        public void testIncludeMultiple() {
+            assertScanned(ScanFilter.of(null, names(BResource.class, YResource.class), null, null),
+                    BResource.class, YResource.class);
+        }
+
+        @Test
+        public void testPackageIncludeMultiple() {
+            assertScanned(ScanFilter.of(packages(BResource.class, YResource.class), null, null, null),
+                    BResource.class, CResource.class, YResource.class);
+        }
+
+        @Test
+        public void testExcludeMultiple() {
+            assertScanned(ScanFilter.of(null, null, null, names(BResource.class, YResource.class)),
+                    AResource.class, CResource.class, XResource.class);
+        }
+
+        @Test
+        public void testPackageExcludeMultiple() {
+            assertScanned(ScanFilter.of(null, null, packages(BResource.class, YResource.class), null),
+                    AResource.class, XResource.class);
+        }
+
+        @Test
+        public void testPackageIncludesAroundExcludes() {
+            assertScanned(ScanFilter.of(packages(AResource.class, CResource.class), null, packages(BResource.class),
+                    null), AResource.class, CResource.class);
+        }
+
+        @Test
+        public void testPackageExcludesAroundInclude() {
+            assertScanned(ScanFilter.of(packages(BResource.class), null, packages(AResource.class, CResource.class),
+                    null), BResource.class);
+        }
+
+        @Test
+        public void testPackageExcludeClassInclude() {
+            assertScanned(ScanFilter.of(null, names(AResource.class), packages(AResource.class), null),
+                    AResource.class);
+        }
+
+        @Test
+        public void testPackageIncludeClassExclude() {
+            assertScanned(ScanFilter.of(packages(AResource.class), null, null, names(AResource.class)),
+                    BResource.class, CResource.class);
+        }
+
+        @Test
+        public void testPackageIncludedAndExcluded() {
+            assertScanned(ScanFilter.of(packages(BResource.class), null, packages(BResource.class), null));
+        }
+
+        @Test
+        public void testPartialPackage() {
+            assertScanned(ScanFilter.of(Collections.singletonList("a.b.c"), null, null, null));
+        }
+
+        @Test
+        public void testConfig() {
+            Map<String, String> config = new HashMap<>();
+            config.put(OASConfig.SCAN_PACKAGES, String.join(", ", packages(AResource.class, CResource.class)));
+            config.put(OASConfig.SCAN_EXCLUDE_PACKAGES, BResource.class.getPackage().getName());
+            config.put(OASConfig.SCAN_CLASSES, YResource.class.getName());
+            assertScanned(ScanFilter.of(config::get), AResource.class, CResource.class, YResource.class);
+        }
+
+        private static List<String> names(Class<?>... classes) {
+            return Arrays.stream(classes).map(Class::getName).collect(Collectors.toList());
+        }
+
+        private static List<String> packages(Class<?>... classes) {
+            return Arrays.stream(classes).map(c -> c.getPackage().getName()).collect(Collectors.toList());
+        }
+
+        private static void assertScanned(ScanFilter filter, Class<?>... expected) {
+            List<Class<?>> scanned = Arrays.asList(expected);
+            for (Class<?> resource : RESOURCES) {
+                assertEquals(filter.test(resource.getName()), scanned.contains(resource), resource.getName());
+            }
+        }
+    }
+
     private static WebArchive scanConfigApp(String name, ConfigAsset config) {
         return ShrinkWrap.create(WebArchive.class, name)
                 .addPackages(true, ScanConfigApplication.class.getPackage())
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+/**
+ * This test covers the {@link org.eclipse.microprofile.openapi.spi.OASWriter} SPI. The model built by the TCK's model
+ * reader is written by the application using the vendor's writer, in each format and to both a stream and a channel,
+ * and the result is compared with the document served by the /openapi endpoint for the same model.
+ */
+public class OASWriterTest extends AppTestBase {
+
+    private static final String[] DOCUMENT_PROPERTIES = {
+            "info", "servers", "paths", "webhooks", "components", "security", "tags", "externalDocs"
+    };
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+
+    @Deployment(name = "writer", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "writer.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.writer")
+                .addPackages(true, "org.eclipse.microprofile.openapi.reader")
+                .addAsManifestResource("microprofile-writer.properties", "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testWriteToStream(String type) throws IOException {
+        assertSameDocument(writeDocument(type, "stream"), readEndpoint());
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testWriteToChannel(String type) throws IOException {
+        assertSameDocument(writeDocument(type, "channel"), readEndpoint());
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testStreamAndChannelOutput(String type) {
+        byte[] stream = given().when().get("/document/" + type + "/stream").then().statusCode(200)
+                .extract().asByteArray();
+        byte[] channel = given().when().get("/document/" + type + "/channel").then().statusCode(200)
+                .extract().asByteArray();
+
+        assertEquals(new String(channel, StandardCharsets.UTF_8),
+                new String(stream, StandardCharsets.UTF_8),
+                "Writing to a channel is expected to produce the same document as writing to a stream");
+    }
+
+    private JsonNode writeDocument(String type, String target) throws IOException {
+        String document = given().when().get("/document/" + type + "/" + target).then().statusCode(200)
+                .extract().asString();
+        return ("JSON".equals(type) ? JSON_MAPPER : YAML_MAPPER).readTree(document);
+    }
+
+    private JsonNode readEndpoint() throws IOException {
+        return JSON_MAPPER.readTree(callEndpoint("JSON").extract().asString());
+    }
+
+    private static void assertSameDocument(JsonNode written, JsonNode served) {
+        assertNotNull(written.get("paths"), "The written document is expected to contain paths");
+
+        for (String property : DOCUMENT_PROPERTIES) {
+            assertEquals(written.get(property), served.get(property),
+                    "The written document is expected to match the /openapi endpoint for property: " + property);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.tck.utils.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Compares the raw documents served when the annotations of the resource classes are processed sequentially and
+ * concurrently, as enabled by the mp.openapi.scan.parallel configuration property. The documents must be byte for byte
+ * identical in each format, for every request and for every deployment of the application, which the assertions of
+ * {@link AirlinesAppParallelScanTest} and {@link PetStoreAppParallelScanTest} do not verify since they ignore the order
+ * of the entries of the document.
+ * <p>
+ * The applications are deployed one at a time, so that the {@code /openapi} endpoint serves the document of a single
+ * application.
+ */
+public class ParallelScanDocumentTest extends AppTestBase {
+
+    private static final String[] FORMATS = {"JSON", "YAML"};
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    @Deployment(name = "airlinesSequential", managed = false, testable = false)
+    public static WebArchive createAirlinesDeployment() {
+        return createAirlinesDeployment(new ConfigAsset().put(OASConfig.SCAN_PARALLEL, "false"));
+    }
+
+    @Deployment(name = "airlinesParallel", managed = false, testable = false)
+    public static WebArchive createAirlinesParallelDeployment() {
+        return createAirlinesDeployment(new ConfigAsset().put(OASConfig.SCAN_PARALLEL, "true"));
+    }
+
+    @Deployment(name = "petstoreSequential", managed = false, testable = false)
+    public static WebArchive createPetStoreDeployment() {
+        return createPetStoreDeployment(new ConfigAsset().put(OASConfig.SCAN_PARALLEL, "false"));
+    }
+
+    @Deployment(name = "petstoreParallel", managed = false, testable = false)
+    public static WebArchive createPetStoreParallelDeployment() {
+        return createPetStoreDeployment(new ConfigAsset().put(OASConfig.SCAN_PARALLEL, "true"));
+    }
+
+    // Both modes use the same archive name, since the context root may appear in the document
+    private static WebArchive createAirlinesDeployment(ConfigAsset config) {
+        return ShrinkWrap.create(WebArchive.class, "airlinesScanComparison.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml")
+                .addAsManifestResource(config, "microprofile-config.properties");
+    }
+
+    private static WebArchive createPetStoreDeployment(ConfigAsset config) {
+        return ShrinkWrap.create(WebArchive.class, "petstoreScanComparison.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.petstore")
+                .addAsManifestResource(config, "microprofile-config.properties");
+    }
+
+    @Test
+    public void testAirlinesDocuments() {
+        assertIdenticalDocuments("airlinesSequential", "airlinesParallel");
+    }
+
+    @Test
+    public void testPetStoreDocuments() {
+        assertIdenticalDocuments("petstoreSequential", "petstoreParallel");
+    }
+
+    private void assertIdenticalDocuments(String sequential, String parallel) {
+        Map<String, byte[]> expected = getDocuments(sequential);
+        // Deploying the application again must not change the order in which the partial models are merged
+        for (int i = 0; i < 2; i++) {
+            Map<String, byte[]> documents = getDocuments(parallel);
+            for (String format : FORMATS) {
+                assertEquals(documents.get(format), expected.get(format), "The " + format
+                        + " document is expected to be identical when the annotations are processed concurrently");
+            }
+        }
+    }
+
+    private Map<String, byte[]> getDocuments(String deployment) {
+        Map<String, byte[]> documents = new HashMap<>();
+        deployer.deploy(deployment);
+        try {
+            for (String format : FORMATS) {
+                byte[] document = getDocument(format);
+                assertEquals(getDocument(format), document,
+                        "The " + format + " document is expected to be identical for each request");
+                documents.put(format, document);
+            }
+        } finally {
+            deployer.undeploy(deployment);
+        }
+        return documents;
+    }
+
+    private static byte[] getDocument(String format) {
+        ContentType contentType = "JSON".equals(format) ? ContentType.JSON : ContentType.ANY;
+        return given().accept(contentType).when().get("/openapi").then().statusCode(200).extract().asByteArray();
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers the mp.openapi.model.prebuilt configuration property. The document at
+ * META-INF/openapi/openapi.json must be served as-is, without calling the configured model reader and filter, reading
+ * the static file or scanning the application's annotations.
+ */
+public class PrebuiltDocumentTest extends AppTestBase {
+
+    @Deployment(name = "prebuilt", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "prebuilt.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.reader")
+                .addPackages(true, "org.eclipse.microprofile.openapi.filter")
+                .addAsManifestResource("prebuilt-openapi.json", "openapi/openapi.json")
+                .addAsManifestResource("simpleapi.yaml", "openapi.yaml")
+                .addAsManifestResource("microprofile-prebuilt.properties", "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testPrebuiltDocument(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("info.title", equalTo("Pre-built Airlines API"));
+        vr.body("info.description", equalTo("Processed when the application was built"));
+        vr.body("paths", aMapWithSize(1));
+        vr.body("paths.'/prebuilt'.get.operationId", equalTo("getPrebuilt"));
+        vr.body("paths.'/prebuilt'.get.responses.'200'.content.'application/json'.schema.$ref",
+                equalTo("#/components/schemas/Prebuilt"));
+        vr.body("components.schemas.Prebuilt.properties.name.type", equalTo("string"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testProcessingSkipped(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // Neither the annotations, the model reader nor the static file contribute paths
+        vr.body("paths", not(hasKey("/bookings")));
+        vr.body("paths", not(hasKey("/inventory")));
+        vr.body("$", not(hasKey("servers")));
+        vr.body("$", not(hasKey("tags")));
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers a filter that declares itself thread-safe. The vendor framework may filter the model in parallel,
+ * but the filtered document must be the same as the one produced by the equivalent sequential filter in
+ * {@link FilterTest}.
+ */
+public class ThreadSafeFilterTest extends AppTestBase {
+    @Deployment(name = "airlinesFilteredThreadSafe", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesFilteredThreadSafe.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.filter")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml")
+                .addAsManifestResource("microprofile-config-filter-threadsafe.properties",
+                        "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testFilterPathItemEnsureOrder(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // Descendants must still be filtered before their ancestors when filtering in parallel
+        vr.body("paths.'/availability'.get.summary", equalTo("Retrieve all available flights"));
+        vr.body("paths.'/availability'.get.operationId", equalTo("filterPathItemGetFlights"));
+        vr.body("paths.'/bookings'.post.callbacks.'bookingCallback'.'http://localhost:9080/airlines/bookings'.get.description",
+                equalTo("parent - Retrieve all bookings for current user"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testFilterOperation(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.'/bookings/{id}'.get.summary", equalTo("filterOperation - Get a booking with ID"));
+        vr.body("paths.'/bookings/{id}'.get.tags", containsInAnyOrder("Reservations", "parent - Bookings"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testFilterOpenAPI(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        // filterOpenAPI must be called last, once all other elements have been filtered
+        vr.body("paths.'/bookings/{id}'.put.summary", equalTo("filterOpenAPI - Update a booking with ID"));
+        vr.body("paths.'/bookings/{id}'.put.operationId", equalTo("updateBookingId"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testFilterParameter(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        String reviewParameters = "paths.'/user/login'.get.parameters";
+        String username = reviewParameters + ".findAll { it.name == 'username' }";
+        vr.body(username + ".description", both(hasSize(1)).and(contains("filterParameter - The user name for login")));
+
+        // Parameter named 'password' should have been removed by filter
+        vr.body(reviewParameters, hasSize(1));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testFilterComponents(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("components.securitySchemes.bookingSecurityScheme.description",
+                equalTo("filterSecurityScheme - Security Scheme for booking resource"));
+        vr.body("components.headers.Max-Rate.description", equalTo("filterHeader - Maximum rate"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testFilterSchema(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.'/streams'.post.responses.'201'.content.'application/json'.schema.description",
+                equalTo("filterSchema - subscription information"));
+    }
+}